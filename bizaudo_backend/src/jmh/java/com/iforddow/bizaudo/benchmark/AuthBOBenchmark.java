@@ -0,0 +1,96 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.bo.user.auth.AuthBO;
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
+import com.iforddow.bizaudo.bo.user.auth.policy.PolicyViolation;
+import com.iforddow.bizaudo.request.user.auth.RegisterRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The policy engine against the String.matches checks
+ * AuthBO made before it, kept here as the baseline.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBOBenchmark {
+
+    @Param({"Str0ng!Passw0rd", "weakpassword"})
+    public String password;
+
+    private AuthBO authBO;
+    private CredentialPolicy credentialPolicy;
+    private RegisterRequest registerRequest;
+
+    @Setup
+    public void setUp() {
+        credentialPolicy = CredentialPolicy.defaults();
+        authBO = new AuthBO(credentialPolicy);
+
+        registerRequest = new RegisterRequest();
+        registerRequest.setEmail("jane.doe@example.com");
+        registerRequest.setPassword(password);
+        registerRequest.setConfirmPassword(password);
+    }
+
+    @Benchmark
+    public ArrayList<String> validateUserRegistration() {
+        return authBO.validateUserRegistration(registerRequest);
+    }
+
+    @Benchmark
+    public ArrayList<String> validateUserRegistrationRegex() {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (!registerRequest.getEmail().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
+            errors.add("Email format is not valid");
+        }
+        if (!registerRequest.getPassword().equals(registerRequest.getConfirmPassword())) {
+            errors.add("Passwords do not match");
+        }
+
+        errors.addAll(validatePasswordRegex(registerRequest.getPassword()));
+
+        return errors;
+    }
+
+    @Benchmark
+    public List<PolicyViolation> checkPassword() {
+        return credentialPolicy.checkPassword(password);
+    }
+
+    @Benchmark
+    public ArrayList<String> validatePasswordRegex() {
+        return validatePasswordRegex(password);
+    }
+
+    private static ArrayList<String> validatePasswordRegex(String password) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (password.length() < 8 || password.length() > 32) {
+            errors.add("Password must be between 8 and 32 characters long");
+        }
+        if (!password.matches(".*[A-Z].*")) {
+            errors.add("Password must contain at least one uppercase letter");
+        }
+        if (!password.matches(".*[a-z].*")) {
+            errors.add("Password must contain at least one lowercase letter");
+        }
+        if (!password.matches(".*\\d.*")) {
+            errors.add("Password must contain at least one digit");
+        }
+        if (!password.matches(".*[!@#$%^&*(),.?\":{}|<>].*")) {
+            errors.add("Password must contain at least one special character");
+        }
+
+        return errors;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the login and refresh response
+ * bodies, with a mapper configured the way Spring MVC builds it.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> loginResponse;
+    private Map<String, Object> refreshResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User user = BenchmarkFixtures.user();
+        String accessToken = BenchmarkFixtures.jwtService().generateJwtToken(user);
+
+        loginResponse = Map.of("accessToken", accessToken);
+        refreshResponse = Map.of("accessToken", accessToken, "user", new UserDTO(user, false));
+    }
+
+    @Benchmark
+    public byte[] loginResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loginResponse);
+    }
+
+    @Benchmark
+    public byte[] refreshResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(refreshResponse);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.jpa.entity.rbac.Permission;
+import com.iforddow.bizaudo.jpa.entity.rbac.Role;
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.jpa.entity.user.UserProfile;
+import com.iforddow.bizaudo.service.util_service.JwtService;
+import com.iforddow.bizaudo.util.TokenHasher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shared fixtures for the benchmarks. Services are built by
+ * hand, with the values Spring would normally inject, so the
+ * benchmarks measure the code and not the container.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "bizaudo-benchmark-secret-bizaudo-benchmark-secret-0123456789abcdef";
+    static final String HMAC_SECRET = "bizaudo-benchmark-hmac-secret";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService();
+
+        jwtService.jwtSecret = JWT_SECRET;
+        jwtService.jwtExpirationMs = 15 * 60 * 1000;
+        jwtService.jwtRefreshExpirationMs = 7 * 24 * 60 * 60 * 1000;
+        jwtService.init();
+
+        return jwtService;
+    }
+
+    static TokenHasher tokenHasher() {
+        TokenHasher tokenHasher = new TokenHasher();
+
+        ReflectionTestUtils.setField(tokenHasher, "hmacAlgo", "HmacSHA256");
+        ReflectionTestUtils.setField(tokenHasher, "hmacSecret", HMAC_SECRET);
+        tokenHasher.init();
+
+        return tokenHasher;
+    }
+
+    /**
+    * A user with two roles of four permissions each and a
+    * profile, roughly the shape of a business member.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    static User user() {
+        Set<Role> roles = new LinkedHashSet<>();
+
+        for (String roleName : new String[]{"Owner", "HrAssistantManager"}) {
+            Role role = new Role();
+            role.setId(UUID.randomUUID());
+            role.setName(roleName);
+            role.setCodeName(roleName);
+
+            Set<Permission> permissions = new LinkedHashSet<>();
+
+            for (String permissionName : new String[]{"ViewUsers", "EditUsers", "ViewReports", "ManageRoles"}) {
+                Permission permission = new Permission();
+                permission.setId(UUID.randomUUID());
+                permission.setName(permissionName);
+                permission.setCodeName(roleName + permissionName);
+                permissions.add(permission);
+            }
+
+            role.setPermissions(permissions);
+            roles.add(role);
+        }
+
+        Instant now = Instant.now();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("jane.doe@example.com")
+                .password("$argon2id$v=19$m=16384,t=2,p=1$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaGhhc2hoYXNoaGFzaGhhc2g")
+                .createdAt(now)
+                .lastActive(now)
+                .roles(roles)
+                .build();
+
+        user.setProfile(UserProfile.builder()
+                .id(user.getId())
+                .user(user)
+                .firstName("Jane")
+                .lastName("Doe")
+                .createdAt(now)
+                .build());
+
+        return user;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.bo.user.auth.policy.BreachedPasswordFilter;
+import com.iforddow.bizaudo.bo.user.auth.policy.BreachedPasswordFilterBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Lookups against a filter of a million hashes, both with the
+ * password's SHA-1 already computed and including the SHA-1.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BreachedPasswordFilterBenchmark {
+
+    private Path filterFile;
+    private BreachedPasswordFilter filter;
+    private byte[] digest;
+
+    @Setup
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        Path hashList = Files.createTempFile("breached", ".txt");
+        filterFile = Files.createTempFile("breached", ".bloom");
+
+        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        List<String> lines = IntStream.range(0, 1_000_000)
+                .mapToObj(i -> HexFormat.of().formatHex(sha1.digest(("breached-" + i).getBytes(StandardCharsets.UTF_8))))
+                .toList();
+
+        Files.write(hashList, lines, StandardCharsets.US_ASCII);
+        BreachedPasswordFilterBuilder.build(hashList, filterFile, 0.001);
+        Files.delete(hashList);
+
+        filter = BreachedPasswordFilter.open(filterFile);
+        digest = sha1.digest("Str0ng!Passw0rd".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        filter.close();
+        Files.deleteIfExists(filterFile);
+    }
+
+    @Benchmark
+    public boolean mightContainSha1() {
+        return filter.mightContainSha1(digest);
+    }
+
+    @Benchmark
+    public boolean mightContain() {
+        return filter.mightContain("Str0ng!Passw0rd");
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.cache.UserDTORedisSerializer;
+import com.iforddow.bizaudo.config.RedisCacheConfig;
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time per userCache entry for each value
+ * format. The payload size of each format is printed at setup.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public String format;
+
+    private RedisSerializer<UserDTO> serializer;
+    private UserDTO user;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (format) {
+            case "JSON" -> new Jackson2JsonRedisSerializer<>(RedisCacheConfig.cacheObjectMapper(), UserDTO.class);
+            default -> new UserDTORedisSerializer();
+        };
+
+        user = new UserDTO(BenchmarkFixtures.user(), true);
+        payload = serializer.serialize(user);
+
+        System.out.println(format + " payload size: " + payload.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(user);
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(payload));
+    }
+
+}
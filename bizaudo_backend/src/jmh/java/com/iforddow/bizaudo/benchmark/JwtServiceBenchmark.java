@@ -0,0 +1,64 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.service.util_service.JwtClaims;
+import com.iforddow.bizaudo.service.util_service.JwtService;
+import com.iforddow.bizaudo.service.util_service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService();
+        user = BenchmarkFixtures.user();
+        accessToken = jwtService.generateJwtToken(user);
+
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxEntries", 10_000);
+        verifiedTokenCache.registerMetrics();
+        verifiedTokenCache.verify(accessToken);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtService.generateJwtToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtService.validateJwtToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> verify() {
+        return jwtService.verify(accessToken);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> verifyCached() {
+        return verifiedTokenCache.verify(accessToken);
+    }
+
+}
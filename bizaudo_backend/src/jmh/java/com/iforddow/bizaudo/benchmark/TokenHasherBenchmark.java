@@ -0,0 +1,85 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.util.TokenHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with -Djmh.args="TokenHasher -prof gc" to see the
+ * allocations per call. The buffer API should report close
+ * to zero bytes per operation, and hmacSha256 only the
+ * returned String.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenHasherBenchmark {
+
+    private TokenHasher tokenHasher;
+    private String refreshToken;
+    private List<String> refreshTokens;
+
+    @Setup
+    public void setUp() {
+        tokenHasher = BenchmarkFixtures.tokenHasher();
+        refreshToken = BenchmarkFixtures.jwtService().generateRefreshToken(BenchmarkFixtures.user());
+
+        refreshTokens = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            refreshTokens.add(BenchmarkFixtures.jwtService().generateRefreshToken(BenchmarkFixtures.user()));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Buffers {
+
+        ByteBuffer input;
+        ByteBuffer output;
+
+        @Setup
+        public void setUp(TokenHasherBenchmark benchmark) {
+            byte[] token = benchmark.refreshToken.getBytes(StandardCharsets.US_ASCII);
+
+            input = ByteBuffer.allocateDirect(token.length).put(token).flip();
+            output = ByteBuffer.allocateDirect(benchmark.tokenHasher.macLength());
+        }
+
+    }
+
+    @Benchmark
+    public String hmacSha256() {
+        return tokenHasher.hmacSha256(refreshToken);
+    }
+
+    @Benchmark
+    public ByteBuffer hmacSha256Buffer(Buffers buffers) {
+        buffers.input.rewind();
+        buffers.output.clear();
+
+        tokenHasher.hmacSha256(buffers.input, buffers.output);
+
+        return buffers.output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<String> hmacSha256All() {
+        return tokenHasher.hmacSha256All(refreshTokens);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String hmacSha256Contended() {
+        return tokenHasher.hmacSha256(refreshToken);
+    }
+
+}
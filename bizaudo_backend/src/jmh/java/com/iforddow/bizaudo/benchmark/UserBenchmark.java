@@ -0,0 +1,41 @@
+package com.iforddow.bizaudo.benchmark;
+
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public UserDTO userDTO() {
+        return new UserDTO(user, false);
+    }
+
+    @Benchmark
+    public UserDTO userDTOWithProfile() {
+        return new UserDTO(user, true);
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.iforddow.bizaudo.service.util_service.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A standalone probe that measures how many bytes of redis
+ * memory a refresh session costs in the legacy key per token
+ * layout and in the per user hash layout. Each layout is written
+ * into an empty database and the growth of used_memory is divided
+ * by the number of sessions.
+ *
+ * The probe flushes the database it is pointed at, so only run it
+ * against a throwaway redis instance:
+ *
+ *   mvn -Pjmh test-compile exec:exec \
+ *       -Djmh.main=com.iforddow.bizaudo.service.util_service.redis.RefreshSessionLayoutProbe \
+ *       -Djmh.main.args="localhost 6379 15 1000000 2"
+ *
+ * Arguments are host, port, database, sessions and sessions per user.
+ *
+ * No measured run is recorded yet. Worked out from redis 7.2's
+ * encodings and jemalloc's size classes, at 1M sessions and 2 per
+ * user, the layouts should come to roughly:
+ *
+ *   before  ~345 bytes/session: per token a dict entry (32), key (64),
+ *           embstr user id (64), expires entry (32) and buckets (~17),
+ *           plus half of a user's listpack set (~273 per user)
+ *   after   ~137 bytes/session: half of a user's listpack hash, with
+ *           22 byte fields and 21 byte values (~273 per user)
+ *
+ * a saving of about 60%. Older redis versions keep small sets of
+ * strings as hash tables rather than listpacks, which makes the
+ * before figure larger. Replace these with the probe's output once
+ * it has been run.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class RefreshSessionLayoutProbe {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final long TTL_SECONDS = 7 * 24 * 3600;
+
+    public static void main(String[] args) {
+
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 6379;
+        int database = args.length > 2 ? Integer.parseInt(args[2]) : 15;
+        int sessions = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+        int sessionsPerUser = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(database);
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+
+        try {
+            long legacy = measure(template, sessions, sessionsPerUser, false);
+            long hashed = measure(template, sessions, sessionsPerUser, true);
+
+            // Printed so it can be pasted as is into a commit message or PR
+            System.out.printf("redis %s, sessions=%d, sessionsPerUser=%d%n",
+                    serverVersion(template), sessions, sessionsPerUser);
+            System.out.printf("before (key per token): %d bytes total, %.1f bytes/session%n", legacy, (double) legacy / sessions);
+            System.out.printf("after (hash per user):  %d bytes total, %.1f bytes/session%n", hashed, (double) hashed / sessions);
+            System.out.printf("saving: %.1f%%%n", 100.0 * (legacy - hashed) / legacy);
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private static long measure(StringRedisTemplate template, int sessions, int sessionsPerUser, boolean hashLayout) {
+
+        flush(template);
+
+        long before = usedMemory(template);
+
+        long expiresAt = Instant.now().getEpochSecond() + TTL_SECONDS;
+        String value = expiresAt + ":" + Instant.now().getEpochSecond();
+
+        for (int start = 0; start < sessions; start += BATCH_SIZE) {
+
+            int end = Math.min(sessions, start + BATCH_SIZE);
+            int first = start;
+
+            template.executePipelined((RedisCallback<Object>) connection -> {
+
+                UUID userId = UUID.randomUUID();
+
+                for (int i = first; i < end; i++) {
+
+                    if (i % sessionsPerUser == 0) {
+                        userId = UUID.randomUUID();
+                    }
+
+                    String hashedToken = randomHashedToken();
+
+                    if (hashLayout) {
+                        writeSession(connection, userId, hashedToken, value);
+                    } else {
+                        writeLegacy(connection, userId, hashedToken);
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        long after = usedMemory(template);
+
+        flush(template);
+
+        return after - before;
+    }
+
+    private static void writeSession(RedisConnection connection, UUID userId, String hashedToken, String value) {
+        byte[] key = bytes(RedisRefreshTokenService.SESSIONS_PREFIX + userId);
+
+        connection.hashCommands().hSet(key, bytes(RedisRefreshTokenService.sessionField(hashedToken)), bytes(value));
+        connection.keyCommands().expire(key, TTL_SECONDS);
+    }
+
+    private static void writeLegacy(RedisConnection connection, UUID userId, String hashedToken) {
+        byte[] userTokensKey = bytes(RedisRefreshTokenService.USER_TOKENS_PREFIX + userId);
+
+        connection.stringCommands().set(bytes(RedisRefreshTokenService.TOKEN_PREFIX + hashedToken),
+                bytes(userId.toString()), Expiration.seconds(TTL_SECONDS),
+                RedisStringCommands.SetOption.upsert());
+        connection.setCommands().sAdd(userTokensKey, bytes(hashedToken));
+        connection.keyCommands().expire(userTokensKey, TTL_SECONDS);
+    }
+
+    private static String randomHashedToken() {
+        byte[] digest = new byte[32];
+        ThreadLocalRandom.current().nextBytes(digest);
+
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static long usedMemory(StringRedisTemplate template) {
+        Properties info = template.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+
+        return Long.parseLong(info.getProperty("used_memory").trim());
+    }
+
+    private static String serverVersion(StringRedisTemplate template) {
+        Properties info = template.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("server"));
+
+        return info.getProperty("redis_version", "unknown").trim();
+    }
+
+    private static void flush(StringRedisTemplate template) {
+        template.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -3,13 +3,28 @@ package com.iforddow.bizaudo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class BizaudoBackendApplication {
 
+    // Fallbacks for settings the application properties leave out.
+    // Boot's scheduler has one thread by default, so a slow outbox
+    // run would hold up every other @Scheduled task, and it stops
+    // without waiting, cutting off runs such as the activity flush.
+    private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+            "spring.task.scheduling.pool.size", 4,
+            "spring.task.scheduling.shutdown.await-termination", true,
+            "spring.task.scheduling.shutdown.await-termination-period", "30s");
+
     public static void main(String[] args) {
-        SpringApplication.run(BizaudoBackendApplication.class, args);
+        SpringApplication application = new SpringApplication(BizaudoBackendApplication.class);
+        application.setDefaultProperties(DEFAULT_PROPERTIES);
+        application.run(args);
     }
 
 }
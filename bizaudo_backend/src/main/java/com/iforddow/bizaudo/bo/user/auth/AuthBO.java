@@ -1,13 +1,26 @@
 package com.iforddow.bizaudo.bo.user.auth;
 
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
+import com.iforddow.bizaudo.bo.user.auth.policy.PolicyViolation;
 import com.iforddow.bizaudo.request.user.auth.ChangePasswordRequest;
 import com.iforddow.bizaudo.request.user.auth.RegisterRequest;
 import com.iforddow.bizaudo.util.BizUtils;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class AuthBO {
 
+    private final CredentialPolicy credentialPolicy;
+
+    public AuthBO() {
+        this(CredentialPolicy.defaults());
+    }
+
+    public AuthBO(CredentialPolicy credentialPolicy) {
+        this.credentialPolicy = credentialPolicy;
+    }
+
     /**
     * A method to validate the users registration
     *
@@ -22,16 +35,7 @@ public class AuthBO {
         String password = registerRequest.getPassword();
         String confirmPassword = registerRequest.getConfirmPassword();
 
-        // Simple regex for basic email validation
-        String emailRegex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-
-        if (email == null) {
-            errors.add("Email is required");
-        }   else {
-            if(!email.matches(emailRegex)) {
-                errors.add("Email format is not valid");
-            }
-        }
+        errors.addAll(messages(credentialPolicy.checkEmail(email)));
 
         if (password == null) {
             errors.add("Password is required");
@@ -67,38 +71,7 @@ public class AuthBO {
      */
     public ArrayList<String> validatePassword(String password) {
 
-        ArrayList<String> errors = new ArrayList<>();
-
-        int MIN_LENGTH = 8;
-        int MAX_LENGTH = 32;
-
-        String oneUpperCaseRegex = ".*[A-Z].*";
-        String oneLowerCaseRegex = ".*[a-z].*";
-        String oneDigitRegex = ".*\\d.*";
-        String specialCharRegex = ".*[!@#$%^&*(),.?\":{}|<>].*";
-
-        if (password == null || password.isEmpty()) {
-            errors.add("Password cannot be null or empty");
-            return errors;
-        }   else {
-            if (password.length() < MIN_LENGTH || password.length() > MAX_LENGTH) {
-                errors.add("Password must be between " + MIN_LENGTH + " and " + MAX_LENGTH + " characters long");
-            }
-            if (!password.matches(oneUpperCaseRegex)) {
-                errors.add("Password must contain at least one uppercase letter");
-            }
-            if (!password.matches(oneLowerCaseRegex)) {
-                errors.add("Password must contain at least one lowercase letter");
-            }
-            if (!password.matches(oneDigitRegex)) {
-                errors.add("Password must contain at least one digit");
-            }
-            if (!password.matches(specialCharRegex)) {
-                errors.add("Password must contain at least one special character");
-            }
-        }
-
-        return errors;
+        return messages(credentialPolicy.checkPassword(password));
     }
 
     /*
@@ -139,4 +112,15 @@ public class AuthBO {
         return errors;
     }
 
+    private static ArrayList<String> messages(List<PolicyViolation> violations) {
+
+        ArrayList<String> messages = new ArrayList<>(violations.size());
+
+        for (PolicyViolation violation : violations) {
+            messages.add(violation.message());
+        }
+
+        return messages;
+    }
+
 }
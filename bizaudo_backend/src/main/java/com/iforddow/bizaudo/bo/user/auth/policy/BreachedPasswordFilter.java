@@ -0,0 +1,158 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A Bloom filter of breached password SHA-1 hashes, memory mapped
+ * from a file made by {@link BreachedPasswordFilterBuilder}. The
+ * filter never touches the heap, pages are loaded by the OS as
+ * they are probed, so it can be far larger than the JVM.
+ *
+ * The file is a 32 byte header followed by the bit array as
+ * little endian longs:
+ *
+ * magic (8) | bit count (8) | hash count (4) | unused (4) | entries (8)
+ *
+ * The SHA-1 digest is already uniformly distributed, so the bit
+ * positions come straight from it by double hashing, with no
+ * further hash functions.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public final class BreachedPasswordFilter implements AutoCloseable {
+
+    static final long MAGIC = 0x314d4f4f4c425a42L; // "BZBLOOM1"
+    static final int HEADER_BYTES = 32;
+
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long entries;
+
+    private BreachedPasswordFilter(Arena arena, MemorySegment file) {
+
+        if (file.byteSize() < HEADER_BYTES || file.get(LONG, 0) != MAGIC) {
+            throw new IllegalArgumentException("Not a breached password filter");
+        }
+
+        this.arena = arena;
+        this.bitCount = file.get(LONG, 8);
+        this.hashCount = file.get(INT, 16);
+        this.entries = file.get(LONG, 24);
+
+        if (bitCount <= 0 || hashCount <= 0 || file.byteSize() < HEADER_BYTES + wordsFor(bitCount) * Long.BYTES) {
+            throw new IllegalArgumentException("Breached password filter is truncated");
+        }
+
+        this.bits = file.asSlice(HEADER_BYTES, wordsFor(bitCount) * Long.BYTES);
+
+    }
+
+    /**
+     * A method to map a filter file read only.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static BreachedPasswordFilter open(Path path) throws IOException {
+
+        Arena arena = Arena.ofShared();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BreachedPasswordFilter(arena, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena));
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+
+    }
+
+    /**
+     * A method to check whether a password may be in the
+     * breached set. False positives happen at the rate the
+     * filter was built for, false negatives never.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public boolean mightContain(String password) {
+        return mightContainSha1(sha1(password));
+    }
+
+    /**
+     * A method to check a raw 20 byte SHA-1 digest.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public boolean mightContainSha1(byte[] digest) {
+
+        long h1 = readLong(digest, 0);
+        long h2 = readLong(digest, 8) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long word = bits.getAtIndex(LONG, bit >>> 6);
+
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    static long wordsFor(long bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Builds a {@link BreachedPasswordFilter} file from a local list of
+ * SHA-1 password hashes, one per line as 40 hex characters with an
+ * optional ":count" after, the format of the Have I Been Pwned
+ * download. Lines in any other format are skipped.
+ *
+ * The filter is sized for the number of hashes and the false
+ * positive rate asked for, and written through a memory mapped
+ * file, so building a filter of several gigabytes needs no heap.
+ *
+ * java -cp app.jar -Dloader.main=com.iforddow.bizaudo.bo.user.auth.policy.BreachedPasswordFilterBuilder
+ *     org.springframework.boot.loader.launch.PropertiesLauncher hashes.txt breached.bloom [falsePositiveRate]
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+public final class BreachedPasswordFilterBuilder {
+
+    private BreachedPasswordFilterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 2) {
+            log.error("Usage: BreachedPasswordFilterBuilder <hash list> <filter file> [false positive rate, default 0.001]");
+            return;
+        }
+
+        double falsePositiveRate = args.length > 2 ? Double.parseDouble(args[2]) : 0.001;
+
+        long start = System.nanoTime();
+        long added = build(Path.of(args[0]), Path.of(args[1]), falsePositiveRate);
+
+        log.info("Added {} hashes to {} in {}s", added, args[1], (System.nanoTime() - start) / 1_000_000_000);
+
+    }
+
+    /**
+     * A method to build a filter file from a hash list.
+     *
+     * @return the number of hashes added.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static long build(Path hashList, Path filterFile, double falsePositiveRate) throws IOException {
+
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        long entries = countHashes(hashList);
+
+        // The standard optimum: m = -n ln p / (ln 2)^2 and k = m / n ln 2
+        long bitCount = Math.max(64, (long) Math.ceil(-Math.max(1, entries) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, entries) * Math.log(2)));
+
+        long size = BreachedPasswordFilter.HEADER_BYTES + BreachedPasswordFilter.wordsFor(bitCount) * Long.BYTES;
+
+        byte[] digest = new byte[20];
+        long added = 0;
+
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(filterFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE);
+             BufferedReader reader = Files.newBufferedReader(hashList, StandardCharsets.US_ASCII)) {
+
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            MemorySegment bits = file.asSlice(BreachedPasswordFilter.HEADER_BYTES);
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                if (!parseSha1(line, digest)) {
+                    continue;
+                }
+
+                long h1 = BreachedPasswordFilter.readLong(digest, 0);
+                long h2 = BreachedPasswordFilter.readLong(digest, 8) | 1;
+
+                for (int i = 0; i < hashCount; i++) {
+                    long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                    long index = bit >>> 6;
+
+                    bits.setAtIndex(BreachedPasswordFilter.LONG, index,
+                            bits.getAtIndex(BreachedPasswordFilter.LONG, index) | (1L << bit));
+                }
+
+                added++;
+            }
+
+            // The header goes last, so a build that fails part way
+            // never leaves a file that looks complete
+            file.set(BreachedPasswordFilter.LONG, 8, bitCount);
+            file.set(BreachedPasswordFilter.INT, 16, hashCount);
+            file.set(BreachedPasswordFilter.LONG, 24, added);
+            file.set(BreachedPasswordFilter.LONG, 0, BreachedPasswordFilter.MAGIC);
+            file.force();
+        }
+
+        return added;
+
+    }
+
+    private static long countHashes(Path hashList) throws IOException {
+
+        byte[] digest = new byte[20];
+        long count = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(hashList, StandardCharsets.US_ASCII)) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (parseSha1(line, digest)) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+
+    }
+
+    /*
+    * Reads the 40 hex characters at the start of the line into
+    * the digest, returning false if the line does not start with
+    * a SHA-1 hash.
+    * */
+    static boolean parseSha1(String line, byte[] digest) {
+
+        if (line.length() < 40 || (line.length() > 40 && line.charAt(40) != ':')) {
+            return false;
+        }
+
+        for (int i = 0; i < 20; i++) {
+            int high = Character.digit(line.charAt(i * 2), 16);
+            int low = Character.digit(line.charAt(i * 2 + 1), 16);
+
+            if (high < 0 || low < 0) {
+                return false;
+            }
+
+            digest[i] = (byte) ((high << 4) | low);
+        }
+
+        return true;
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import java.util.List;
+
+/**
+ * Rejects passwords found in the breached password filter.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class BreachedPasswordRule implements PasswordRule {
+
+    private final BreachedPasswordFilter filter;
+
+    public BreachedPasswordRule(BreachedPasswordFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public void check(String password, List<PolicyViolation> violations) {
+        if (filter.mightContain(password)) {
+            violations.add(new PolicyViolation("password.breached",
+                    "Password has appeared in a data breach, please choose another"));
+        }
+    }
+
+}
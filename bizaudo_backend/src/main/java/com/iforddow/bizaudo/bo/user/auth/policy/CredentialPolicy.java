@@ -0,0 +1,287 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules for passwords and email addresses, compiled once.
+ *
+ * Each ASCII character is mapped up front to the classes it
+ * belongs to, so a password is checked in a single pass that
+ * collects the classes it contains, rather than a regex scan per
+ * class. Emails are checked by a hand written scanner accepting
+ * exactly what ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$
+ * accepts.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public final class CredentialPolicy {
+
+    public static final String DEFAULT_SPECIAL_CHARACTERS = "!@#$%^&*(),.?\":{}|<>";
+
+    private static final int UPPER = 1;
+    private static final int LOWER = 1 << 1;
+    private static final int DIGIT = 1 << 2;
+    private static final int SPECIAL = 1 << 3;
+
+    // Characters allowed in the local part and the domain of an email
+    private static final int EMAIL_LOCAL = 1 << 4;
+    private static final int EMAIL_DOMAIN = 1 << 5;
+
+    private static final CredentialPolicy DEFAULTS = builder().build();
+
+    private final int minLength;
+    private final int maxLength;
+    private final int requiredClasses;
+    private final byte[] classes;
+    private final List<PasswordRule> rules;
+
+    private CredentialPolicy(Builder builder) {
+
+        this.minLength = builder.minLength;
+        this.maxLength = builder.maxLength;
+        this.rules = List.copyOf(builder.rules);
+
+        int required = 0;
+        required |= builder.requireUpper ? UPPER : 0;
+        required |= builder.requireLower ? LOWER : 0;
+        required |= builder.requireDigit ? DIGIT : 0;
+        required |= builder.requireSpecial ? SPECIAL : 0;
+        this.requiredClasses = required;
+
+        this.classes = new byte[128];
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            classes[c] |= UPPER | EMAIL_LOCAL | EMAIL_DOMAIN;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            classes[c] |= LOWER | EMAIL_LOCAL | EMAIL_DOMAIN;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            classes[c] |= DIGIT | EMAIL_LOCAL | EMAIL_DOMAIN;
+        }
+        for (char c : builder.specialCharacters.toCharArray()) {
+            if (c < 128) {
+                classes[c] |= SPECIAL;
+            }
+        }
+        for (char c : "._%+-".toCharArray()) {
+            classes[c] |= EMAIL_LOCAL;
+        }
+        for (char c : ".-".toCharArray()) {
+            classes[c] |= EMAIL_DOMAIN;
+        }
+
+    }
+
+    /**
+     * The policy AuthBO has always enforced.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static CredentialPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A method to check a password against every rule.
+     *
+     * @return the violations, empty if the password is allowed.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public List<PolicyViolation> checkPassword(String password) {
+
+        List<PolicyViolation> violations = new ArrayList<>(4);
+
+        if (password == null || password.isEmpty()) {
+            violations.add(new PolicyViolation("password.required", "Password cannot be null or empty"));
+            return violations;
+        }
+
+        int length = password.length();
+        int found = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+
+            if (c < 128) {
+                found |= classes[c];
+            }
+        }
+
+        if (length < minLength || length > maxLength) {
+            violations.add(new PolicyViolation("password.length",
+                    "Password must be between " + minLength + " and " + maxLength + " characters long"));
+        }
+
+        int missing = requiredClasses & ~found;
+
+        if ((missing & UPPER) != 0) {
+            violations.add(new PolicyViolation("password.uppercase", "Password must contain at least one uppercase letter"));
+        }
+        if ((missing & LOWER) != 0) {
+            violations.add(new PolicyViolation("password.lowercase", "Password must contain at least one lowercase letter"));
+        }
+        if ((missing & DIGIT) != 0) {
+            violations.add(new PolicyViolation("password.digit", "Password must contain at least one digit"));
+        }
+        if ((missing & SPECIAL) != 0) {
+            violations.add(new PolicyViolation("password.special", "Password must contain at least one special character"));
+        }
+
+        for (PasswordRule rule : rules) {
+            rule.check(password, violations);
+        }
+
+        return violations;
+
+    }
+
+    /**
+     * A method to check an email address is present
+     * and syntactically valid.
+     *
+     * @return the violations, empty if the email is allowed.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public List<PolicyViolation> checkEmail(String email) {
+
+        if (email == null) {
+            return List.of(new PolicyViolation("email.required", "Email is required"));
+        }
+
+        if (!isValidEmail(email)) {
+            return List.of(new PolicyViolation("email.format", "Email format is not valid"));
+        }
+
+        return List.of();
+
+    }
+
+    private boolean isValidEmail(String email) {
+
+        int length = email.length();
+        int at = -1;
+
+        // Local part, up to the first @
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+
+            if (c == '@') {
+                at = i;
+                break;
+            }
+
+            if (!hasClass(c, EMAIL_LOCAL)) {
+                return false;
+            }
+        }
+
+        if (at < 1) {
+            return false;
+        }
+
+        // Domain, which must end in a dot and two or more letters
+        int lastDot = -1;
+
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+
+            if (!hasClass(c, EMAIL_DOMAIN)) {
+                return false;
+            }
+
+            if (c == '.') {
+                lastDot = i;
+            }
+        }
+
+        if (lastDot <= at + 1 || length - lastDot - 1 < 2) {
+            return false;
+        }
+
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!hasClass(email.charAt(i), UPPER | LOWER)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private boolean hasClass(char c, int mask) {
+        return c < 128 && (classes[c] & mask) != 0;
+    }
+
+    public static final class Builder {
+
+        private int minLength = 8;
+        private int maxLength = 32;
+        private boolean requireUpper = true;
+        private boolean requireLower = true;
+        private boolean requireDigit = true;
+        private boolean requireSpecial = true;
+        private String specialCharacters = DEFAULT_SPECIAL_CHARACTERS;
+        private final List<PasswordRule> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder minLength(int minLength) {
+            this.minLength = minLength;
+            return this;
+        }
+
+        public Builder maxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public Builder requireUpper(boolean requireUpper) {
+            this.requireUpper = requireUpper;
+            return this;
+        }
+
+        public Builder requireLower(boolean requireLower) {
+            this.requireLower = requireLower;
+            return this;
+        }
+
+        public Builder requireDigit(boolean requireDigit) {
+            this.requireDigit = requireDigit;
+            return this;
+        }
+
+        public Builder requireSpecial(boolean requireSpecial) {
+            this.requireSpecial = requireSpecial;
+            return this;
+        }
+
+        public Builder specialCharacters(String specialCharacters) {
+            this.specialCharacters = specialCharacters;
+            return this;
+        }
+
+        public Builder rule(PasswordRule rule) {
+            this.rules.add(rule);
+            return this;
+        }
+
+        public CredentialPolicy build() {
+            return new CredentialPolicy(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import java.util.List;
+
+/**
+ * An extra check a password must pass, run after the
+ * built in length and character class rules of the
+ * {@link CredentialPolicy}.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public interface PasswordRule {
+
+    /**
+     * A method to check a password, adding a
+     * violation for anything it does not allow.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    void check(String password, List<PolicyViolation> violations);
+
+}
@@ -0,0 +1,11 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+/**
+ * A rule a credential broke. The code is stable and meant for
+ * clients to act on, the message is what is shown to the user.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record PolicyViolation(String code, String message) {
+}
@@ -0,0 +1,34 @@
+package com.iforddow.bizaudo.cache;
+
+import java.util.UUID;
+
+/**
+ * The single registry of cache names and cache keys. Every
+ * cache annotation and every manual eviction should build its
+ * key here, so readers and writers can never disagree on the
+ * key format.
+ *
+ * In SpEL, use T(com.iforddow.bizaudo.cache.CacheKeys).user(#id).
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public final class CacheKeys {
+
+    public static final String USER_CACHE = "userCache";
+
+    private CacheKeys() {
+    }
+
+    /**
+    * A method to get the key a users cached
+    * data is stored under.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public static String user(UUID userId) {
+        return "user:" + userId;
+    }
+
+}
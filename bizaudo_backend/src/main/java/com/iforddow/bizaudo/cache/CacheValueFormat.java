@@ -0,0 +1,17 @@
+package com.iforddow.bizaudo.cache;
+
+/**
+ * The encodings a cache can store its values in.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public enum CacheValueFormat {
+
+    // Jackson JSON, readable with redis-cli but larger and slower
+    JSON,
+
+    // A hand-written, schema versioned binary encoding
+    BINARY
+
+}
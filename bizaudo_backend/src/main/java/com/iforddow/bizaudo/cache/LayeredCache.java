@@ -0,0 +1,172 @@
+package com.iforddow.bizaudo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache with a bounded in-process tier in front of a redis
+ * tier. Reads are served from local memory when possible and
+ * fall through to redis otherwise. Writes go to both tiers, and
+ * other nodes are told to drop their local copy through the
+ * owning {@link LayeredCacheManager}.
+ *
+ * Read-through fills come in through get with a value loader,
+ * which @Cacheable(sync = true) uses, and are not broadcast, since
+ * they do not change what other nodes should see. Every put, such
+ * as a @CachePut update, and every evict and clear is.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class LayeredCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final LayeredCacheManager manager;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    LayeredCache(String name, Cache<String, ValueWrapper> local, org.springframework.cache.Cache remote,
+                 LayeredCacheManager manager, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+
+        FunctionCounter.builder("cache.tier.requests", localHits, LongAdder::sum)
+                .tags("cache", name, "result", "local_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.requests", remoteHits, LongAdder::sum)
+                .tags("cache", name, "result", "redis_hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.requests", misses, LongAdder::sum)
+                .tags("cache", name, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit_ratio", this, c -> c.ratio(c.localHits))
+                .tags("cache", name, "tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit_ratio", this, c -> c.ratio(c.remoteHits))
+                .tags("cache", name, "tier", "redis")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+
+        String localKey = key.toString();
+
+        ValueWrapper value = local.getIfPresent(localKey);
+
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        value = remote.get(key);
+
+        if (value != null) {
+            remoteHits.increment();
+            local.put(localKey, value);
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+
+        ValueWrapper value = get(key);
+
+        if (value == null || value.get() == null) {
+            return null;
+        }
+
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value.get());
+        }
+
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+
+        ValueWrapper value = get(key);
+
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        T loaded = remote.get(key, valueLoader);
+
+        local.put(key.toString(), new SimpleValueWrapper(loaded));
+
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key.toString(), new SimpleValueWrapper(value));
+        manager.publishEviction(name, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key.toString());
+        manager.publishEviction(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishEviction(name, LayeredCacheManager.ALL_KEYS);
+    }
+
+    /**
+    * A method to drop an entry from the local tier only,
+    * used when another node changed it.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    void evictLocal(String key) {
+        if (LayeredCacheManager.ALL_KEYS.equals(key)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private double ratio(LongAdder hits) {
+        long requests = localHits.sum() + remoteHits.sum() + misses.sum();
+
+        return requests == 0 ? 0 : (double) hits.sum() / requests;
+    }
+
+}
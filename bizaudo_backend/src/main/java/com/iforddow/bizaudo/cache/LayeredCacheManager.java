@@ -0,0 +1,116 @@
+package com.iforddow.bizaudo.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A cache manager that puts a bounded in-process tier in front
+ * of every cache of a redis backed cache manager. Whenever an
+ * entry is written or evicted, the change is broadcast on a redis
+ * pub/sub channel so every other node drops its local copy.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class LayeredCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cacheInvalidation";
+
+    // The key used in an invalidation message to clear a whole cache
+    static final String ALL_KEYS = "*";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxEntries;
+    private final Duration localTtl;
+
+    // Identifies this node, so it can ignore its own invalidation messages
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(CacheManager remoteCacheManager, StringRedisTemplate stringRedisTemplate,
+                               MeterRegistry meterRegistry, long localMaxEntries, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+
+        LayeredCache cache = caches.get(name);
+
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+
+        if (remote == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, n -> new LayeredCache(n,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxEntries)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                remote, this, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+    * A method to tell the other nodes an entry
+    * changed.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    void publishEviction(String cacheName, String key) {
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "\n" + cacheName + "\n" + key);
+    }
+
+    /**
+    * A method to apply an invalidation message from
+    * another node to the local tier.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        LayeredCache cache = caches.get(parts[1]);
+
+        if (cache != null) {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+}
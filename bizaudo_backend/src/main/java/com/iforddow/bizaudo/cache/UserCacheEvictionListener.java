@@ -0,0 +1,39 @@
+package com.iforddow.bizaudo.cache;
+
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * A listener that evicts a users cached data whenever the
+ * user changes. It runs after the transaction that made the
+ * change commits, so a concurrent read cannot put the old row
+ * back into the cache after the eviction.
+ *
+ * Activity flushes do not publish an event, so the cached last
+ * active time can be as stale as the entry's TTL.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+
+        Cache cache = cacheManager.getCache(CacheKeys.USER_CACHE);
+
+        if (cache != null) {
+            cache.evict(CacheKeys.user(event.userId()));
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.iforddow.bizaudo.cache;
+
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.dto.user.UserProfileDTO;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A compact binary redis serializer for {@link UserDTO}.
+ *
+ * The first byte is the schema version. A payload with any other
+ * first byte, including JSON written before this serializer was
+ * introduced, reads as a cache miss, so the entry is simply loaded
+ * and written again in the current format. Bump the version and
+ * keep reading the old one whenever the layout changes.
+ *
+ * Layout (version 1): flags, id, email, lastActive, roles, profile,
+ * where flags say which of the nullable parts are present, instants
+ * are epoch seconds plus nanos and strings are modified UTF-8.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class UserDTORedisSerializer implements RedisSerializer<UserDTO> {
+
+    static final byte VERSION = 1;
+
+    private static final int ENABLED = 1;
+    private static final int EMAIL_VERIFIED = 1 << 1;
+    private static final int HAS_ID = 1 << 2;
+    private static final int HAS_EMAIL = 1 << 3;
+    private static final int HAS_LAST_ACTIVE = 1 << 4;
+    private static final int HAS_ROLES = 1 << 5;
+    private static final int HAS_PROFILE = 1 << 6;
+
+    private static final int PROFILE_HAS_ID = 1;
+    private static final int PROFILE_HAS_FIRST_NAME = 1 << 1;
+    private static final int PROFILE_HAS_LAST_NAME = 1 << 2;
+    private static final int PROFILE_HAS_CREATED_AT = 1 << 3;
+    private static final int PROFILE_HAS_LAST_UPDATED_AT = 1 << 4;
+
+    @Override
+    public byte[] serialize(UserDTO user) throws SerializationException {
+
+        if (user == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(VERSION);
+
+            int flags = (user.enabled() ? ENABLED : 0)
+                    | (user.emailVerified() ? EMAIL_VERIFIED : 0)
+                    | (user.id() != null ? HAS_ID : 0)
+                    | (user.email() != null ? HAS_EMAIL : 0)
+                    | (user.lastActive() != null ? HAS_LAST_ACTIVE : 0)
+                    | (user.roles() != null ? HAS_ROLES : 0)
+                    | (user.userProfile() != null ? HAS_PROFILE : 0);
+
+            out.writeByte(flags);
+
+            if (user.id() != null) {
+                writeUuid(out, user.id());
+            }
+            if (user.email() != null) {
+                out.writeUTF(user.email());
+            }
+            if (user.lastActive() != null) {
+                writeInstant(out, user.lastActive());
+            }
+            if (user.roles() != null) {
+                out.writeShort(user.roles().size());
+                for (String role : user.roles()) {
+                    out.writeUTF(role);
+                }
+            }
+            if (user.userProfile() != null) {
+                writeProfile(out, user.userProfile());
+            }
+
+        } catch (IOException e) {
+            throw new SerializationException("Could not write UserDTO", e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public UserDTO deserialize(byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0 || bytes[0] != VERSION) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+
+            int flags = in.readUnsignedByte();
+
+            UUID id = has(flags, HAS_ID) ? readUuid(in) : null;
+            String email = has(flags, HAS_EMAIL) ? in.readUTF() : null;
+            Instant lastActive = has(flags, HAS_LAST_ACTIVE) ? readInstant(in) : null;
+
+            Set<String> roles = null;
+
+            if (has(flags, HAS_ROLES)) {
+                int count = in.readUnsignedShort();
+                roles = new LinkedHashSet<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    roles.add(in.readUTF());
+                }
+            }
+
+            UserProfileDTO profile = has(flags, HAS_PROFILE) ? readProfile(in) : null;
+
+            return new UserDTO(id, email, has(flags, ENABLED), has(flags, EMAIL_VERIFIED), lastActive, roles, profile);
+
+        } catch (IOException e) {
+            throw new SerializationException("Could not read UserDTO", e);
+        }
+    }
+
+    private static void writeProfile(DataOutputStream out, UserProfileDTO profile) throws IOException {
+
+        int flags = (profile.id() != null ? PROFILE_HAS_ID : 0)
+                | (profile.firstName() != null ? PROFILE_HAS_FIRST_NAME : 0)
+                | (profile.lastName() != null ? PROFILE_HAS_LAST_NAME : 0)
+                | (profile.createdAt() != null ? PROFILE_HAS_CREATED_AT : 0)
+                | (profile.lastUpdatedAt() != null ? PROFILE_HAS_LAST_UPDATED_AT : 0);
+
+        out.writeByte(flags);
+
+        if (profile.id() != null) {
+            writeUuid(out, profile.id());
+        }
+        if (profile.firstName() != null) {
+            out.writeUTF(profile.firstName());
+        }
+        if (profile.lastName() != null) {
+            out.writeUTF(profile.lastName());
+        }
+        if (profile.createdAt() != null) {
+            writeInstant(out, profile.createdAt());
+        }
+        if (profile.lastUpdatedAt() != null) {
+            writeInstant(out, profile.lastUpdatedAt());
+        }
+    }
+
+    private static UserProfileDTO readProfile(DataInputStream in) throws IOException {
+
+        int flags = in.readUnsignedByte();
+
+        return new UserProfileDTO(
+                has(flags, PROFILE_HAS_ID) ? readUuid(in) : null,
+                has(flags, PROFILE_HAS_FIRST_NAME) ? in.readUTF() : null,
+                has(flags, PROFILE_HAS_LAST_NAME) ? in.readUTF() : null,
+                has(flags, PROFILE_HAS_CREATED_AT) ? readInstant(in) : null,
+                has(flags, PROFILE_HAS_LAST_UPDATED_AT) ? readInstant(in) : null
+        );
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    private static boolean has(int flags, int flag) {
+        return (flags & flag) != 0;
+    }
+
+}
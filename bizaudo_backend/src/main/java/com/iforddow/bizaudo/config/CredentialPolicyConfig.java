@@ -0,0 +1,89 @@
+package com.iforddow.bizaudo.config;
+
+import com.iforddow.bizaudo.bo.user.auth.policy.BreachedPasswordFilter;
+import com.iforddow.bizaudo.bo.user.auth.policy.BreachedPasswordRule;
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
+import com.iforddow.bizaudo.bo.user.auth.policy.PasswordRule;
+import com.iforddow.bizaudo.util.BizUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class CredentialPolicyConfig {
+
+    @Value("${password.policy.min_length:8}")
+    private int minLength;
+
+    @Value("${password.policy.max_length:32}")
+    private int maxLength;
+
+    @Value("${password.policy.require_upper:true}")
+    private boolean requireUpper;
+
+    @Value("${password.policy.require_lower:true}")
+    private boolean requireLower;
+
+    @Value("${password.policy.require_digit:true}")
+    private boolean requireDigit;
+
+    @Value("${password.policy.require_special:true}")
+    private boolean requireSpecial;
+
+    // Empty means CredentialPolicy.DEFAULT_SPECIAL_CHARACTERS, which
+    // cannot be written as a placeholder default as it holds braces
+    @Value("${password.policy.special_characters:}")
+    private String specialCharacters;
+
+    /*
+    * Compiled once at startup, with any PasswordRule beans
+    * run after the built in rules.
+    * */
+    @Bean
+    public CredentialPolicy credentialPolicy(ObjectProvider<PasswordRule> passwordRules) {
+        CredentialPolicy.Builder builder = CredentialPolicy.builder()
+                .minLength(minLength)
+                .maxLength(maxLength)
+                .requireUpper(requireUpper)
+                .requireLower(requireLower)
+                .requireDigit(requireDigit)
+                .requireSpecial(requireSpecial)
+                .specialCharacters(BizUtils.isNullOrEmpty(specialCharacters)
+                        ? CredentialPolicy.DEFAULT_SPECIAL_CHARACTERS
+                        : specialCharacters);
+
+        passwordRules.orderedStream().forEach(builder::rule);
+
+        return builder.build();
+    }
+
+    /*
+    * The breached password filter, mapped from the file built by
+    * BreachedPasswordFilterBuilder. Only loaded when a path is set.
+    * */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "password.breached.filter_path")
+    public BreachedPasswordFilter breachedPasswordFilter(@Value("${password.breached.filter_path}") String filterPath)
+            throws IOException {
+        BreachedPasswordFilter filter = BreachedPasswordFilter.open(Path.of(filterPath));
+
+        log.info("Loaded breached password filter with {} hashes, {} MiB mapped",
+                filter.getEntries(), filter.getBitCount() / 8 / 1024 / 1024);
+
+        return filter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "password.breached.filter_path")
+    public BreachedPasswordRule breachedPasswordRule(BreachedPasswordFilter breachedPasswordFilter) {
+        return new BreachedPasswordRule(breachedPasswordFilter);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.iforddow.bizaudo.config;
+
+import com.iforddow.bizaudo.ratelimit.LocalRateLimiter;
+import com.iforddow.bizaudo.ratelimit.RateLimitProperties;
+import com.iforddow.bizaudo.ratelimit.RateLimiter;
+import com.iforddow.bizaudo.ratelimit.RedisRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties rateLimitProperties,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   MeterRegistry meterRegistry) {
+        LocalRateLimiter local = new LocalRateLimiter(rateLimitProperties.getStripes());
+
+        return switch (rateLimitProperties.getMode()) {
+            case LOCAL -> local;
+            case REDIS -> new RedisRateLimiter(stringRedisTemplate, local, meterRegistry);
+        };
+    }
+
+}
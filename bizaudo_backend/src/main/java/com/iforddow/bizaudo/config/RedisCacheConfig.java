@@ -5,15 +5,25 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.iforddow.bizaudo.cache.CacheKeys;
+import com.iforddow.bizaudo.cache.CacheValueFormat;
+import com.iforddow.bizaudo.cache.LayeredCacheManager;
+import com.iforddow.bizaudo.cache.UserDTORedisSerializer;
 import com.iforddow.bizaudo.dto.user.UserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -23,22 +33,45 @@ import java.util.Map;
 @Configuration
 public class RedisCacheConfig {
 
+    // The maximum number of entries each cache keeps in process
+    @Value("${cache.local.max_entries:10000}")
+    private long localMaxEntries;
+
+    // How long an entry may live in process before it is re-read from redis
+    @Value("${cache.local.ttl_seconds:60}")
+    private long localTtlSeconds;
+
+    // The encoding of the values in "userCache"
+    @Value("${cache.user_cache.format:BINARY}")
+    private CacheValueFormat userCacheFormat;
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // Common ObjectMapper without default typing, Jackson will use @JsonTypeInfo
-        ObjectMapper mapper = new ObjectMapper();
+    public LayeredCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            MeterRegistry meterRegistry) {
+        return new LayeredCacheManager(redisCacheManager(connectionFactory), stringRedisTemplate, meterRegistry,
+                localMaxEntries, Duration.ofSeconds(localTtlSeconds));
+    }
 
-        mapper.registerModule(new JavaTimeModule());
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           LayeredCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(LayeredCacheManager.INVALIDATION_CHANNEL));
 
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return container;
+    }
 
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        ObjectMapper mapper = cacheObjectMapper();
 
         // Serializer for UserDTO (concrete, no polymorphism needed)
-        Jackson2JsonRedisSerializer<UserDTO> userDtoSerializer = new Jackson2JsonRedisSerializer<>(mapper, UserDTO.class);
+        RedisSerializer<UserDTO> userDtoSerializer = switch (userCacheFormat) {
+            case JSON -> new Jackson2JsonRedisSerializer<>(mapper, UserDTO.class);
+            case BINARY -> new UserDTORedisSerializer();
+        };
 
         // Default cache config (fallback)
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -49,15 +82,42 @@ public class RedisCacheConfig {
         // Specific cache configs
         Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
 
-        // Cache "userCache" uses UserDTO serializer
-        cacheConfigs.put("userCache", RedisCacheConfiguration.defaultCacheConfig()
+        // Cache "userCache" uses UserDTO serializer, every user write evicts it so it can live long
+        cacheConfigs.put(CacheKeys.USER_CACHE, RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(userDtoSerializer))
-                .entryTtl(Duration.ofMinutes(15)));
+                .entryTtl(Duration.ofHours(6)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+
+        // Not a bean of its own, so load the configured caches here
+        redisCacheManager.afterPropertiesSet();
+
+        return redisCacheManager;
+    }
+
+    /**
+    * A method to build the ObjectMapper used for
+    * JSON cache values.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public static ObjectMapper cacheObjectMapper() {
+        // Common ObjectMapper without default typing, Jackson will use @JsonTypeInfo
+        ObjectMapper mapper = new ObjectMapper();
+
+        mapper.registerModule(new JavaTimeModule());
+
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        return mapper;
     }
 }
\ No newline at end of file
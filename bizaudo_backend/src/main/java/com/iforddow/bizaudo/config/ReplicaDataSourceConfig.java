@@ -0,0 +1,82 @@
+package com.iforddow.bizaudo.config;
+
+import com.iforddow.bizaudo.datasource.ReadYourWrites;
+import com.iforddow.bizaudo.datasource.ReplicaProperties;
+import com.iforddow.bizaudo.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto configured datasource with one that routes
+ * read only transactions to the read replicas. Only registered
+ * when datasource.replica.enabled is true, otherwise everything
+ * uses the single spring.datasource pool as before.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaProperties replicaProperties) {
+        return new ReadYourWrites(replicaProperties.getReadYourWritesMs());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                             ReplicaProperties replicaProperties,
+                                                             ReadYourWrites readYourWrites,
+                                                             MeterRegistry meterRegistry) {
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (String url : replicaProperties.getUrls()) {
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url);
+            replica.setUsername(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : primary.getUsername());
+            replica.setPassword(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : primary.getPassword());
+            replica.setMaximumPoolSize(replicaProperties.getPoolSize());
+            replica.setReadOnly(true);
+            // Fail fast on a replica that is down rather than stall reads and the health check
+            replica.setConnectionTimeout(2_000);
+            // Don't hold up startup when a replica is down, the health check will catch it
+            replica.setInitializationFailTimeout(-1);
+
+            replicas.add(replica);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getReadYourWritesMs() > 0 ? readYourWrites : null,
+                replicaProperties.getMaxLagMs(), meterRegistry);
+
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.iforddow.bizaudo.config;
+
+import com.iforddow.bizaudo.jpa.migration.EmailNormalizedMigration;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Runs the schema migrations Hibernate's update can't do
+ * on its own, before the entity manager factory starts and
+ * updates the schema, the same way Boot orders Flyway.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public EmailNormalizedMigration emailNormalizedMigration(DataSource dataSource) {
+        return new EmailNormalizedMigration(dataSource);
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor migrationsBeforeJpa() {
+        return new EntityManagerFactoryDependsOnPostProcessor(EmailNormalizedMigration.class);
+    }
+
+}
@@ -2,12 +2,17 @@ package com.iforddow.bizaudo.config;
 
 import com.iforddow.bizaudo.filter.JwtFilter;
 import com.iforddow.bizaudo.service.util_service.impl.UserDetailsServiceImpl;
-import com.iforddow.bizaudo.service.util_service.JwtService;
+import com.iforddow.bizaudo.service.util_service.VerifiedTokenCache;
+import com.iforddow.bizaudo.service.util_service.redis.RedisAuthoritiesVersionService;
+import com.iforddow.bizaudo.util.Argon2Calibrator;
+import com.iforddow.bizaudo.util.Argon2Calibrator.Argon2Settings;
+import com.iforddow.bizaudo.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -18,14 +23,52 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsServiceImpl userDetailsServiceImpl;
+    private final RedisAuthoritiesVersionService redisAuthoritiesVersionService;
+
+    // Each concurrent Argon2 hash holds its full memory cost,
+    // so the pool size also bounds the heap used by hashing.
+    @Value("${password.hash.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int passwordHashThreads;
+
+    @Value("${password.hash.queue_capacity:64}")
+    private int passwordHashQueueCapacity;
+
+    // Spring Security's 5.8 defaults. Stored hashes with weaker
+    // parameters are rehashed on the next successful login.
+    @Value("${password.argon2.memory_kib:16384}")
+    private int argon2MemoryKib;
+
+    @Value("${password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    // When set, the parameters above are only the floor and
+    // are raised until a hash takes the target latency.
+    @Value("${password.argon2.calibrate:false}")
+    private boolean argon2Calibrate;
+
+    @Value("${password.argon2.target_ms:250}")
+    private long argon2TargetMs;
+
+    // Every hashing thread can hold this much at once, so the
+    // cap actually used is the lower of this and the heap budget.
+    @Value("${password.argon2.max_memory_kib:65536}")
+    private int argon2MaxMemoryKib;
+
+    // The share of the max heap all hashing threads together may use
+    @Value("${password.argon2.heap_budget_percent:25}")
+    private int argon2HeapBudgetPercent;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtFilter jwtFilter) throws Exception {
@@ -41,20 +84,44 @@ public class SecurityConfig {
                 .build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(argon2PasswordEncoder(),
+                passwordHashThreads, passwordHashQueueCapacity, meterRegistry);
     }
 
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
-            throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
+    private Argon2PasswordEncoder argon2PasswordEncoder() {
+
+        if (!argon2Calibrate) {
+            return new Argon2Settings(argon2MemoryKib, argon2Iterations, argon2Parallelism, -1).encoder();
+        }
+
+        int heapBudgetKib = Argon2Calibrator.heapBudgetKib(passwordHashThreads, argon2HeapBudgetPercent);
+        int maxMemoryKib = Math.min(argon2MaxMemoryKib, heapBudgetKib);
+
+        log.info("Capping Argon2 calibration at {} KiB per hash, from {}", maxMemoryKib,
+                heapBudgetKib < argon2MaxMemoryKib
+                    ? argon2HeapBudgetPercent + "% of the heap over " + passwordHashThreads + " hashing threads"
+                    : "password.argon2.max_memory_kib");
+
+        if (maxMemoryKib < argon2MemoryKib) {
+            log.warn("Argon2 memory floor of {} KiB is above the cap, "
+                    + "consider fewer password.hash.threads or a larger heap", argon2MemoryKib);
+        }
+
+        Argon2Settings settings = Argon2Calibrator.calibrate(argon2TargetMs, argon2MemoryKib,
+                maxMemoryKib, argon2Iterations, argon2Parallelism);
+
+        log.info("Calibrated Argon2 to {} KiB, {} iterations, {} lanes ({}ms per hash)",
+                settings.memoryKib(), settings.iterations(), settings.parallelism(), settings.measuredMs());
+
+        return settings.encoder();
+
     }
 
     @Bean
     public JwtFilter jwtFilter() {
-        return new JwtFilter(jwtService, userDetailsServiceImpl);
+        return new JwtFilter(verifiedTokenCache, userDetailsServiceImpl, redisAuthoritiesVersionService);
     }
 
 }
@@ -3,12 +3,18 @@ package com.iforddow.bizaudo.controller.user;
 import com.iforddow.bizaudo.dto.user.UserDTO;
 import com.iforddow.bizaudo.exception.ResourceNotFoundException;
 import com.iforddow.bizaudo.request.user.auth.ChangePasswordRequest;
+import com.iforddow.bizaudo.service.user.UserImportService;
 import com.iforddow.bizaudo.service.user.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.UUID;
@@ -19,6 +25,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
@@ -39,4 +46,22 @@ public class UserController {
         return userService.delete(id);
     }
 
+    /*
+    * Creates users in bulk from a CSV or NDJSON body, streaming
+    * back an NDJSON report with a line per row as it goes.
+    * */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ImportUsers')")
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        userImportService.importUsers(request.getInputStream(), csv, response.getOutputStream());
+
+    }
+
 }
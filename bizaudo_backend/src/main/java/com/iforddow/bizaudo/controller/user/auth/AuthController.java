@@ -1,10 +1,13 @@
 package com.iforddow.bizaudo.controller.user.auth;
 
-import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.dto.user.auth.AuthenticatedUser;
+import com.iforddow.bizaudo.ratelimit.AuthEndpoint;
+import com.iforddow.bizaudo.ratelimit.AuthRateLimiter;
 import com.iforddow.bizaudo.request.user.auth.*;
 import com.iforddow.bizaudo.service.user.auth.AuthService;
 import com.iforddow.bizaudo.service.user.auth.EmailVerificationService;
 import com.iforddow.bizaudo.service.user.auth.PasswordResetService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,14 +27,17 @@ public class AuthController {
     private final AuthService authService;
     private final PasswordResetService passwordResetService;
     private final EmailVerificationService emailVerificationService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody LoginRequest loginRequest, HttpServletResponse response) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request, HttpServletResponse response) {
+        authRateLimiter.check(AuthEndpoint.LOGIN, loginRequest.getEmail(), request);
         return authService.login(loginRequest, response);
     }
 
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> register(@RequestBody RegisterRequest registerRequest) {
+    public ResponseEntity<Map<String, Object>> register(@RequestBody RegisterRequest registerRequest, HttpServletRequest request) {
+        authRateLimiter.check(AuthEndpoint.REGISTER, registerRequest.getEmail(), request);
         return authService.register(registerRequest);
     }
 
@@ -46,7 +52,9 @@ public class AuthController {
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<String> forgotPasswordRequest(@RequestParam String email) {
+    public ResponseEntity<String> forgotPasswordRequest(@RequestParam String email, HttpServletRequest request) {
+
+        authRateLimiter.check(AuthEndpoint.FORGOT_PASSWORD, email, request);
 
         passwordResetService.forgotPasswordRequest(email);
 
@@ -69,8 +77,8 @@ public class AuthController {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        User user = (User) authentication.getPrincipal();
-        UUID userId = user.getId();
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+        UUID userId = user.id();
 
         passwordResetService.changePasswordRequest(userId, changePasswordRequest);
 
@@ -80,7 +88,9 @@ public class AuthController {
 
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/verify-email")
-    public ResponseEntity<String> requestEmailVerification(@RequestParam String email) {
+    public ResponseEntity<String> requestEmailVerification(@RequestParam String email, HttpServletRequest request) {
+
+        authRateLimiter.check(AuthEndpoint.VERIFY_EMAIL, email, request);
 
         emailVerificationService.sendVerificationEmail(email);
 
@@ -0,0 +1,100 @@
+package com.iforddow.bizaudo.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iforddow.bizaudo.dto.user.auth.AuthenticatedUser;
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers which users changed recently, so reads made on their
+ * behalf go to the primary until the replicas have caught up.
+ * The user a read is for is the authenticated user, or the one
+ * named with actingFor when there is none yet.
+ *
+ * The window only covers this node. Reads that must never see a
+ * replica, such as the JwtFilter reloading a user whose roles
+ * changed, use a read-write transaction instead.
+ *
+ * Registered by ReplicaDataSourceConfig when replicas are enabled.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<UUID> ACTING_FOR = new ThreadLocal<>();
+
+    private final Cache<UUID, Boolean> changed;
+
+    public ReadYourWrites(long windowMs) {
+        this.changed = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * A method to make reads on this thread count as made for
+     * the given user until the returned scope is closed.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static Scope actingFor(UUID userId) {
+
+        UUID previous = ACTING_FOR.get();
+        ACTING_FOR.set(userId);
+
+        return () -> {
+            if (previous == null) {
+                ACTING_FOR.remove();
+            } else {
+                ACTING_FOR.set(previous);
+            }
+        };
+
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        changed.put(event.userId(), Boolean.TRUE);
+    }
+
+    public boolean requiresPrimary() {
+
+        UUID userId = currentUser();
+
+        return userId != null && changed.getIfPresent(userId) != null;
+
+    }
+
+    private static UUID currentUser() {
+
+        UUID actingFor = ACTING_FOR.get();
+
+        if (actingFor != null) {
+            return actingFor;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.id()
+                : null;
+
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
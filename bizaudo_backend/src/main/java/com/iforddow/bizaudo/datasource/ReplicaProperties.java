@@ -0,0 +1,47 @@
+package com.iforddow.bizaudo.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The read replicas that read only transactions are sent to, e.g.
+ *
+ * datasource.replica.enabled=true
+ * datasource.replica.urls=jdbc:postgresql://replica-1/bizaudo,jdbc:postgresql://replica-2/bizaudo
+ * datasource.replica.max-lag-ms=5000
+ *
+ * The username and password default to those of the primary.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    // Connections per replica
+    private int poolSize = 10;
+
+    // A replica further behind the primary than this is not read from
+    private long maxLagMs = 5_000;
+
+    private long healthCheckIntervalMs = 5_000;
+
+    // How long a user's own reads stay on the primary after they
+    // change, so they see their change. Zero turns this off.
+    private long readYourWritesMs = 5_000;
+
+}
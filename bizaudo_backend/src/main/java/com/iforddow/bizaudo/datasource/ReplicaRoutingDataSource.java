@@ -0,0 +1,140 @@
+package com.iforddow.bizaudo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read only transactions to a healthy read replica, taking
+ * them in turn, and everything else to the primary. Reads go to
+ * the primary when no replica is healthy, or when they are for a
+ * user that changed within the read your writes window.
+ *
+ * The connection has to be chosen once the transaction's read only
+ * flag is known, which is after the transaction manager asks for it,
+ * so this is always used behind a LazyConnectionDataSourceProxy.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    // How far, in ms, the replica's replay is behind. A replica that has
+    // replayed everything it received counts as current, since the last
+    // replay time only moves when the primary writes.
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final List<HikariDataSource> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagMs;
+
+    // Indexes of the replicas that passed the last health check
+    private volatile int[] healthy = new int[0];
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWrites readYourWrites, long maxLagMs, MeterRegistry meterRegistry) {
+
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.maxLagMs = maxLagMs;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        Gauge.builder("datasource.replica.healthy", this, routing -> routing.healthy.length).register(meterRegistry);
+
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        int[] candidates = healthy;
+
+        if (candidates.length == 0 || (readYourWrites != null && readYourWrites.requiresPrimary())) {
+            return PRIMARY;
+        }
+
+        return candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+
+    }
+
+    /**
+     * A method to check each replica can be reached and is
+     * not too far behind, and read only from those that pass.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @Scheduled(fixedDelayString = "#{@replicaProperties.healthCheckIntervalMs}")
+    public void checkReplicas() {
+
+        List<Integer> passed = new ArrayList<>(replicas.size());
+
+        for (int i = 0; i < replicas.size(); i++) {
+
+            HikariDataSource replica = replicas.get(i);
+
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+
+                rs.next();
+                long lagMs = rs.getLong(1);
+
+                if (lagMs <= maxLagMs) {
+                    passed.add(i);
+                } else {
+                    log.warn("Replica {} is {}ms behind, not reading from it", replica.getJdbcUrl(), lagMs);
+                }
+
+            } catch (SQLException e) {
+                log.warn("Replica {} failed its health check, not reading from it: {}", replica.getJdbcUrl(), e.getMessage());
+            }
+        }
+
+        healthy = passed.stream().mapToInt(Integer::intValue).toArray();
+
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+}
@@ -25,6 +25,10 @@ public record UserDTO(UUID id, String email, boolean enabled, boolean emailVerif
         );
     }
 
+    public UserDTO withLastActive(Instant lastActive) {
+        return new UserDTO(id, email, enabled, emailVerified, lastActive, roles, userProfile);
+    }
+
     private static Set<String> extractRoles(User user) {
         return user.getRoles().stream()
                 .map(Role::getCodeName)
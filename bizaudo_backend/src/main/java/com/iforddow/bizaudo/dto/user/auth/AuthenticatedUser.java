@@ -0,0 +1,17 @@
+package com.iforddow.bizaudo.dto.user.auth;
+
+import java.util.UUID;
+
+/**
+ * The principal of an authenticated request. It is built
+ * from the access token claims, so it only carries what the
+ * token carries rather than the full user entity.
+ *
+ * @param id The id of the authenticated user.
+ * @param email The email of the authenticated user.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record AuthenticatedUser(UUID id, String email) {
+}
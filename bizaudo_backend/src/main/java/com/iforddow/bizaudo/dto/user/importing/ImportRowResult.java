@@ -0,0 +1,25 @@
+package com.iforddow.bizaudo.dto.user.importing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A line of the bulk import report.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ImportRowResult(long line, String email, ImportStatus status, UUID id, List<String> errors) {
+
+    public static ImportRowResult created(long line, String email, UUID id) {
+        return new ImportRowResult(line, email, ImportStatus.CREATED, id, List.of());
+    }
+
+    public static ImportRowResult of(long line, String email, ImportStatus status, List<String> errors) {
+        return new ImportRowResult(line, email, status, null, errors);
+    }
+
+}
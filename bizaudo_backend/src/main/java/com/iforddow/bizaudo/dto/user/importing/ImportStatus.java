@@ -0,0 +1,26 @@
+package com.iforddow.bizaudo.dto.user.importing;
+
+/**
+ * The outcome of importing a single row.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public enum ImportStatus {
+
+    // The user and their profile were created
+    CREATED,
+
+    // A user with this email already exists
+    EXISTS,
+
+    // The email appears earlier in the same import
+    DUPLICATE,
+
+    // The row failed validation or could not be parsed
+    INVALID,
+
+    // The row was valid but could not be written
+    FAILED
+
+}
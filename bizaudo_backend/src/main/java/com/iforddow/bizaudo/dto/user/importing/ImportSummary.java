@@ -0,0 +1,13 @@
+package com.iforddow.bizaudo.dto.user.importing;
+
+import java.util.Map;
+
+/**
+ * The last line of the bulk import report, with the
+ * number of rows per status and the total time taken.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record ImportSummary(long rows, Map<ImportStatus, Long> statuses, long elapsedMs) {
+}
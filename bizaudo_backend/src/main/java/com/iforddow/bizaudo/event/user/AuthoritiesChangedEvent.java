@@ -0,0 +1,17 @@
+package com.iforddow.bizaudo.event.user;
+
+import java.util.UUID;
+
+/**
+ * An event published when a users roles or permissions
+ * change, carrying their new authorities version. It is
+ * only acted on once the change has committed.
+ *
+ * @param userId The id of the user whose authorities changed.
+ * @param version The users new authorities version.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record AuthoritiesChangedEvent(UUID userId, long version) {
+}
@@ -0,0 +1,16 @@
+package com.iforddow.bizaudo.event.user;
+
+import java.util.UUID;
+
+/**
+ * An event published by every write path that changes a
+ * user or their profile, so anything derived from the user,
+ * such as cached data, can be refreshed.
+ *
+ * @param userId The id of the user that changed.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record UserChangedEvent(UUID userId) {
+}
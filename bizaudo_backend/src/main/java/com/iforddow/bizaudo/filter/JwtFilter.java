@@ -1,19 +1,25 @@
 package com.iforddow.bizaudo.filter;
 
+import com.iforddow.bizaudo.dto.user.auth.AuthenticatedUser;
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.service.util_service.JwtClaims;
+import com.iforddow.bizaudo.service.util_service.VerifiedTokenCache;
 import com.iforddow.bizaudo.service.util_service.impl.UserDetailsServiceImpl;
-import com.iforddow.bizaudo.service.util_service.JwtService;
+import com.iforddow.bizaudo.service.util_service.redis.RedisAuthoritiesVersionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * A filter that checks for JWT tokens in the Authorization header of HTTP requests.
@@ -25,29 +31,37 @@ import java.util.UUID;
  * */
 public class JwtFilter extends OncePerRequestFilter {
 
-    // Initialize the JwtService
-    private final JwtService jwtService;
+    // Initialize the VerifiedTokenCache
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // Initialize the UserDetailsService
     private final UserDetailsServiceImpl userDetailsServiceImpl;
 
+    // Initialize the RedisAuthoritiesVersionService
+    private final RedisAuthoritiesVersionService redisAuthoritiesVersionService;
+
     /**
      * A constructor for the JwtFilter class.
      *
-     * @param jwtService The service used for JWT operations.
+     * @param verifiedTokenCache The cache used to verify JWT tokens.
      * @param userDetailsServiceImpl The service used to load user details.
+     * @param redisAuthoritiesVersionService The service holding each users current authorities version.
      *
      * @author IFD
      * @since 2025-06-15
      * */
-    public JwtFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsServiceImpl) {
-        this.jwtService = jwtService;
+    public JwtFilter(VerifiedTokenCache verifiedTokenCache, UserDetailsServiceImpl userDetailsServiceImpl,
+                     RedisAuthoritiesVersionService redisAuthoritiesVersionService) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.userDetailsServiceImpl = userDetailsServiceImpl;
+        this.redisAuthoritiesVersionService = redisAuthoritiesVersionService;
     }
 
     /**
      * A filter that intercepts HTTP requests to check for JWT tokens in the Authorization header.
      * If a valid JWT token is found, it authenticates the user and sets the security context.
+     * The authorities embedded in the token are used as long as their version is current,
+     * otherwise the user is loaded from the database.
      *
      * @param request The HTTP request to filter.
      * @param response The HTTP response to filter.
@@ -72,18 +86,44 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         String jwtToken = authHeader.substring(7);
-        UUID userId = UUID.fromString(jwtService.getUserIdFromToken(jwtToken));
 
         if(SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = userDetailsServiceImpl.loadUserById(userId);
+            // Verify the token, skipping the signature check if it was seen before
+            Optional<JwtClaims> claims = verifiedTokenCache.verify(jwtToken);
+
+            if(claims.isPresent()) {
+
+                JwtClaims verified = claims.get();
+
+                AuthenticatedUser principal;
+                Collection<? extends GrantedAuthority> authorities;
+
+                if(isCurrent(verified)) {
+
+                    principal = new AuthenticatedUser(verified.userId(), verified.email());
+                    authorities = verified.authorities();
+
+                } else {
+
+                    User user;
+
+                    try {
+                        user = userDetailsServiceImpl.loadUserById(verified.userId());
+                    } catch (UsernameNotFoundException e) {
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
+                    redisAuthoritiesVersionService.publishVersion(user.getId(), user.getAuthoritiesVersion());
 
-            if(jwtService.validateJwtToken(jwtToken)) {
+                    principal = new AuthenticatedUser(user.getId(), user.getEmail());
+                    authorities = user.getAuthorities();
+                }
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        principal, null, authorities);
 
-                authToken.setDetails(userDetails);
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
@@ -92,4 +132,22 @@ public class JwtFilter extends OncePerRequestFilter {
 
     }
 
+    /**
+     * A method to check whether the authorities embedded in
+     * a token still match the users current authorities version.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    private boolean isCurrent(JwtClaims claims) {
+
+        if(!claims.hasAuthorities()) {
+            return false;
+        }
+
+        Long currentVersion = redisAuthoritiesVersionService.getVersion(claims.userId());
+
+        return currentVersion != null && currentVersion == claims.authoritiesVersion();
+    }
+
 }
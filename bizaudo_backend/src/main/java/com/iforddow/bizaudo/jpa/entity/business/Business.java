@@ -1,6 +1,7 @@
 package com.iforddow.bizaudo.jpa.entity.business;
 
 import com.iforddow.bizaudo.jpa.entity.rbac.Role;
+import com.iforddow.bizaudo.jpa.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,7 +15,7 @@ import java.util.UUID;
 @Table(name = "business")
 public class Business {
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false)
     private UUID id;
 
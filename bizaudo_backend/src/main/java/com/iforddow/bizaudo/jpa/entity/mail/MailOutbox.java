@@ -0,0 +1,60 @@
+package com.iforddow.bizaudo.jpa.entity.mail;
+
+import com.iforddow.bizaudo.jpa.id.GeneratedUuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "ix_mail_outbox_due", columnList = "status, next_attempt_at")
+})
+public class MailOutbox {
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    // Cleared once sent, as mails carry reset and verification links
+    @ToString.Exclude
+    @Column(name = "body", nullable = false, columnDefinition = "text")
+    private String body;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'PENDING'")
+    @Column(name = "status", nullable = false, length = 16)
+    private MailStatus status = MailStatus.PENDING;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    // When the mail is next due, or when a SENDING claim expires
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+}
@@ -0,0 +1,22 @@
+package com.iforddow.bizaudo.jpa.entity.mail;
+
+/**
+ * Where a mail is in the outbox.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public enum MailStatus {
+
+    // Waiting to be sent, or to be retried
+    PENDING,
+
+    // Claimed by a dispatcher, until its lease runs out
+    SENDING,
+
+    SENT,
+
+    // Gave up after the maximum number of attempts
+    DEAD
+
+}
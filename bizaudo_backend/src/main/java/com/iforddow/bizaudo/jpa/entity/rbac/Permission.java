@@ -1,9 +1,9 @@
 package com.iforddow.bizaudo.jpa.entity.rbac;
 
+import com.iforddow.bizaudo.jpa.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.hibernate.annotations.ColumnDefault;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -15,7 +15,7 @@ import java.util.UUID;
 @Table(name = "permission")
 public class Permission {
     @Id
-    @ColumnDefault("gen_random_uuid()")
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false)
     private UUID id;
 
@@ -28,10 +28,7 @@ public class Permission {
     @Column(name = "code_name", nullable = false, length = 100)
     private String codeName;
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    @JoinTable(name = "role_permission",
-            joinColumns = @JoinColumn(name = "permission_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id"))
+    @ManyToMany(mappedBy = "permissions")
     private Set<Role> roles = new LinkedHashSet<>();
 
 }
\ No newline at end of file
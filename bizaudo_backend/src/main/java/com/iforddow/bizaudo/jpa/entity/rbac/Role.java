@@ -2,6 +2,7 @@ package com.iforddow.bizaudo.jpa.entity.rbac;
 
 import com.iforddow.bizaudo.jpa.entity.business.Business;
 import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.jpa.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,7 +19,7 @@ import java.util.UUID;
 @Table(name = "role")
 public class Role {
     @Id
-    @ColumnDefault("gen_random_uuid()")
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false)
     private UUID id;
 
@@ -32,7 +33,7 @@ public class Role {
     @Column(name = "code_name", nullable = false, length = 100)
     private String codeName;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
     @JoinTable(name = "role_permission",
             joinColumns = @JoinColumn(name = "role_id"),
             inverseJoinColumns = @JoinColumn(name = "permission_id"))
@@ -1,6 +1,8 @@
 package com.iforddow.bizaudo.jpa.entity.user;
 
 import com.iforddow.bizaudo.jpa.entity.rbac.Role;
+import com.iforddow.bizaudo.jpa.id.GeneratedUuidV7;
+import com.iforddow.bizaudo.util.BizUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
@@ -18,10 +20,31 @@ import java.util.stream.Stream;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "\"user\"")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = User.PRINCIPAL_GRAPH, attributeNodes = {
+                @NamedAttributeNode(value = "roles", subgraph = "permissions"),
+                @NamedAttributeNode("profile")
+        }, subgraphs = @NamedSubgraph(name = "permissions", attributeNodes = @NamedAttributeNode("permissions"))),
+        @NamedEntityGraph(name = User.DTO_GRAPH, attributeNodes = {
+                @NamedAttributeNode("roles"),
+                @NamedAttributeNode("profile")
+        })
+})
+@Table(name = "\"user\"", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_NORMALIZED_CONSTRAINT, columnNames = "email_normalized")
+})
 public class User implements UserDetails {
+
+    public static final String EMAIL_NORMALIZED_CONSTRAINT = "uk_user_email_normalized";
+
+    // Roles are lazy, so each use case loads what it needs through one of these.
+    // The profile is in both as it is the inverse side of a one to one, which
+    // Hibernate otherwise loads with a select of its own for every user.
+    public static final String PRINCIPAL_GRAPH = "User.principal";
+    public static final String DTO_GRAPH = "User.dto";
+
     @Id
-    @GeneratedValue
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false)
     private UUID id;
 
@@ -31,6 +54,12 @@ public class User implements UserDetails {
     @Column(name = "email", nullable = false, length = 100)
     private String email;
 
+    // The email as looked up and compared, kept in step with email.
+    // Its unique index is what stops two accounts sharing an email.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_normalized", nullable = false, length = 100)
+    private String emailNormalized;
+
     @Column(name = "password")
     private String password;
 
@@ -62,16 +91,37 @@ public class User implements UserDetails {
     @Column(name = "email_verified", nullable = false)
     private Boolean emailVerified = false;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Incremented whenever the users roles or permissions change,
+    // see RedisAuthoritiesVersionService for how
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "authorities_version", nullable = false)
+    private Long authoritiesVersion = 0L;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToMany
     @JoinTable(name = "user_role",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles;
 
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL,  orphanRemoval = true)
     private UserProfile profile;
 
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailNormalized = BizUtils.normalizeEmail(email);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        this.emailNormalized = BizUtils.normalizeEmail(email);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles.stream().flatMap(
@@ -0,0 +1,22 @@
+package com.iforddow.bizaudo.jpa.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID primary key as generated with a time ordered
+ * version 7 UUID when the entity is persisted. Used in place
+ * of @GeneratedValue on every entity with its own UUID key.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
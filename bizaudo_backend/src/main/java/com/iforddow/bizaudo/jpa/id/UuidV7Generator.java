@@ -0,0 +1,32 @@
+package com.iforddow.bizaudo.jpa.id;
+
+import com.iforddow.bizaudo.util.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * The Hibernate generator behind @GeneratedUuidV7. The id is
+ * made in the application before the insert, so it is known
+ * without a round trip and works on any database.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return UuidV7.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+}
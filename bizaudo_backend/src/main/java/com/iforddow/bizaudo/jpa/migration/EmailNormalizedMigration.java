@@ -0,0 +1,138 @@
+package com.iforddow.bizaudo.jpa.migration;
+
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Brings an existing user table up to the email_normalized column
+ * before Hibernate updates the schema. Hibernate can add the column
+ * but cannot fill it, so on a table that already has users the NOT
+ * NULL column or its unique constraint fails to be created, and
+ * lookups by email, which only go through it, find nobody.
+ *
+ * The column is added as nullable and backfilled, then any addresses
+ * that now collide are resolved, and only then is it made NOT NULL
+ * and unique. Of the accounts sharing an address the most recently
+ * active keeps it, and the rest have the address suffixed with their
+ * id, so they are kept but can't be logged into, and are logged for
+ * someone to merge by hand.
+ *
+ * Everything runs in one transaction and does nothing once the
+ * column and its constraint are in place, so it is safe on every
+ * start and on a fresh database, where Hibernate creates the table.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class EmailNormalizedMigration {
+
+    private static final String MIGRATED_SQL = """
+            SELECT to_regclass('"user"') IS NULL OR EXISTS (
+                SELECT 1 FROM information_schema.columns c
+                JOIN pg_constraint k ON k.conname = '%s'
+                WHERE c.table_schema = current_schema() AND c.table_name = 'user' AND c.column_name = 'email_normalized' AND c.is_nullable = 'NO')
+            """.formatted(User.EMAIL_NORMALIZED_CONSTRAINT);
+
+    private static final String ADD_COLUMN_SQL =
+            "ALTER TABLE \"user\" ADD COLUMN IF NOT EXISTS email_normalized varchar(100)";
+
+    // The same normalization as BizUtils.normalizeEmail
+    private static final String BACKFILL_SQL =
+            "UPDATE \"user\" SET email_normalized = lower(trim(email)) WHERE email_normalized IS NULL";
+
+    private static final String RESOLVE_DUPLICATES_SQL = """
+            UPDATE "user" u SET email_normalized = left(u.email_normalized, 53) || '#duplicate-' || u.id
+            FROM (SELECT id, row_number() OVER (
+                      PARTITION BY email_normalized ORDER BY last_active DESC, created_at, id) AS rank
+                  FROM "user") d
+            WHERE u.id = d.id AND d.rank > 1
+            RETURNING u.id, u.email
+            """;
+
+    private static final String NOT_NULL_SQL =
+            "ALTER TABLE \"user\" ALTER COLUMN email_normalized SET NOT NULL";
+
+    private static final String UNIQUE_SQL = """
+            DO $$ BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = '%1$s') THEN
+                    ALTER TABLE "user" ADD CONSTRAINT %1$s UNIQUE (email_normalized);
+                END IF;
+            END $$
+            """.formatted(User.EMAIL_NORMALIZED_CONSTRAINT);
+
+    private final DataSource dataSource;
+
+    /**
+     * A method to run the migration if the user
+     * table still needs it.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void migrate() throws SQLException {
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            if (migrated(statement)) {
+                return;
+            }
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                // Takes the table lock first, so nodes starting together run this one at a time
+                statement.execute(ADD_COLUMN_SQL);
+
+                if (migrated(statement)) {
+                    connection.rollback();
+                    return;
+                }
+
+                int filled = statement.executeUpdate(BACKFILL_SQL);
+
+                try (ResultSet duplicates = statement.executeQuery(RESOLVE_DUPLICATES_SQL)) {
+                    while (duplicates.next()) {
+                        log.warn("User {} shares the email {} with a more recently active user, "
+                                + "its address was suffixed and needs merging by hand",
+                                duplicates.getObject(1), duplicates.getString(2));
+                    }
+                }
+
+                statement.execute(NOT_NULL_SQL);
+                statement.execute(UNIQUE_SQL);
+
+                connection.commit();
+
+                log.info("Backfilled email_normalized for {} users", filled);
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+    }
+
+    private static boolean migrated(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(MIGRATED_SQL)) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+}
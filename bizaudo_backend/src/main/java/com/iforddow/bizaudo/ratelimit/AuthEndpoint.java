@@ -0,0 +1,27 @@
+package com.iforddow.bizaudo.ratelimit;
+
+/**
+ * The authentication endpoints that are rate limited.
+ * The key names the endpoint in bucket keys and metrics.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public enum AuthEndpoint {
+
+    LOGIN("login"),
+    REGISTER("register"),
+    FORGOT_PASSWORD("forgot_password"),
+    VERIFY_EMAIL("verify_email");
+
+    private final String key;
+
+    AuthEndpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+}
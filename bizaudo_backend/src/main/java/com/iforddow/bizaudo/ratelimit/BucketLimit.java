@@ -0,0 +1,27 @@
+package com.iforddow.bizaudo.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The size of a token bucket and how fast it refills.
+ * A bucket allows a burst of capacity requests, then
+ * refillPerMinute requests a minute after that.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BucketLimit {
+
+    private int capacity;
+    private int refillPerMinute;
+
+    public double refillPerMillisecond() {
+        return refillPerMinute / 60_000.0;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.iforddow.bizaudo.ratelimit;
+
+import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets kept in process. Buckets are spread over a
+ * fixed number of stripes by key, each with its own lock and
+ * map, so requests for different accounts rarely contend. The
+ * locks are ReentrantLocks rather than monitors so a virtual
+ * thread waiting on one does not pin its carrier.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Stripe[] stripes;
+    private final LongSupplier clock;
+
+    public LocalRateLimiter(int stripes) {
+        this(stripes, () -> System.nanoTime() / 1_000_000);
+    }
+
+    /*
+    * The clock returns monotonic time in milliseconds.
+    * */
+    LocalRateLimiter(int stripes, LongSupplier clock) {
+
+        // Round up to a power of two so a stripe can be picked with a mask
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+
+        this.stripes = new Stripe[count];
+        this.clock = clock;
+
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public long tryAcquire(String key, BucketLimit limit) {
+
+        Stripe stripe = stripeFor(key);
+        long now = clock.getAsLong();
+
+        stripe.lock.lock();
+
+        try {
+            Bucket bucket = stripe.buckets.computeIfAbsent(key, k -> new Bucket(limit.getCapacity(), now));
+
+            return bucket.tryTake(now, limit);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+    }
+
+    @Override
+    public void purgeIdle() {
+
+        long now = clock.getAsLong();
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+
+            try {
+                stripe.buckets.values().removeIf(bucket -> bucket.fullAt <= now);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+    }
+
+    int size() {
+
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return size;
+
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<String, Bucket> buckets = new HashMap<>();
+
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        // When the bucket will be full again, and so can be dropped
+        private long fullAt;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+            this.fullAt = now;
+        }
+
+        private long tryTake(long now, BucketLimit limit) {
+
+            double rate = limit.refillPerMillisecond();
+
+            tokens = Math.min(limit.getCapacity(), tokens + (now - updatedAt) * rate);
+            updatedAt = now;
+
+            long wait = 0;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+            } else {
+                wait = rate > 0 ? (long) Math.ceil((1 - tokens) / rate) : Long.MAX_VALUE;
+            }
+
+            fullAt = rate > 0 ? now + (long) Math.ceil((limit.getCapacity() - tokens) / rate) : Long.MAX_VALUE;
+
+            return wait;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.iforddow.bizaudo.ratelimit;
+
+/**
+ * Where the rate limit buckets are kept. LOCAL keeps them in
+ * process, so each node enforces its own limits. REDIS shares
+ * them between every node.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public enum RateLimitMode {
+    LOCAL,
+    REDIS
+}
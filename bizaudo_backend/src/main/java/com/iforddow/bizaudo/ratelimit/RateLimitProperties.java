@@ -0,0 +1,64 @@
+package com.iforddow.bizaudo.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * The rate limits for the authentication endpoints, e.g.
+ *
+ * rate_limit.mode=REDIS
+ * rate_limit.login.account.capacity=5
+ * rate_limit.login.account.refill_per_minute=5
+ * rate_limit.login.client.capacity=50
+ *
+ * Each endpoint has one bucket per account email and one per
+ * client address. The account bucket stops guessing against a
+ * single account from many addresses, the client bucket stops a
+ * single address from working through many accounts.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private RateLimitMode mode = RateLimitMode.LOCAL;
+
+    // The number of locks the in process buckets are spread over
+    private int stripes = 64;
+
+    // How often idle in process buckets are dropped
+    private long purgeIntervalMs = 60_000;
+
+    private EndpointLimits login = new EndpointLimits(new BucketLimit(10, 5), new BucketLimit(50, 30));
+    private EndpointLimits register = new EndpointLimits(new BucketLimit(3, 1), new BucketLimit(10, 5));
+    private EndpointLimits forgotPassword = new EndpointLimits(new BucketLimit(3, 1), new BucketLimit(10, 5));
+    private EndpointLimits verifyEmail = new EndpointLimits(new BucketLimit(3, 1), new BucketLimit(10, 5));
+
+    public EndpointLimits limitsFor(AuthEndpoint endpoint) {
+        return switch (endpoint) {
+            case LOGIN -> login;
+            case REGISTER -> register;
+            case FORGOT_PASSWORD -> forgotPassword;
+            case VERIFY_EMAIL -> verifyEmail;
+        };
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointLimits {
+
+        private BucketLimit account;
+        private BucketLimit client;
+
+    }
+
+}
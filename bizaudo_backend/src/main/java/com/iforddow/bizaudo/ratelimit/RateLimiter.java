@@ -0,0 +1,33 @@
+package com.iforddow.bizaudo.ratelimit;
+
+/**
+ * A store of token buckets.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public interface RateLimiter {
+
+    /**
+     * A method to take a token from the bucket with the
+     * given key, creating a full bucket if there is none.
+     *
+     * @return 0 if a token was taken, otherwise the number
+     * of milliseconds until the next token is available.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    long tryAcquire(String key, BucketLimit limit);
+
+    /**
+     * A method to drop buckets that have refilled and
+     * so no longer hold anything a new bucket would not.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    default void purgeIdle() {
+    }
+
+}
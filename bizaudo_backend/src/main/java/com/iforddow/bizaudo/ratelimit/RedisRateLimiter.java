@@ -0,0 +1,96 @@
+package com.iforddow.bizaudo.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Token buckets shared between nodes in redis. Each bucket is
+ * a small hash refilled and taken from in one script, using the
+ * redis clock so nodes with drifting clocks agree. If redis
+ * cannot be reached the in process buckets are used instead,
+ * so an outage loosens the limits rather than failing logins.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class RedisRateLimiter implements RateLimiter {
+
+    static final String BUCKET_PREFIX = "rateLimit:";
+
+    /*
+    * Refills the bucket for the time since it was last used,
+    * then takes a token if there is one. The bucket expires
+    * once it would be full again, since a missing bucket is
+    * treated as a full one.
+    *
+    * KEYS: bucket key
+    * ARGV: capacity, refill per ms
+    * Returns 0 if a token was taken, otherwise the ms to wait
+    * */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 't', 'ts')
+            local tokens = tonumber(bucket[1])
+            local updated = tonumber(bucket[2])
+            if tokens == nil or updated == nil then
+                tokens = capacity
+                updated = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - updated) * rate)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalRateLimiter fallback;
+    private final Counter fallbacks;
+
+    public RedisRateLimiter(StringRedisTemplate stringRedisTemplate, LocalRateLimiter fallback, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.fallback = fallback;
+        this.fallbacks = Counter.builder("auth.rate_limit.fallbacks")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, BucketLimit limit) {
+
+        // A bucket that never refills cannot expire, keep it local
+        if (limit.getRefillPerMinute() <= 0) {
+            return fallback.tryAcquire(key, limit);
+        }
+
+        try {
+            Long wait = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(BUCKET_PREFIX + key),
+                    String.valueOf(limit.getCapacity()), String.valueOf(limit.refillPerMillisecond()));
+
+            return wait == null ? 0 : wait;
+        } catch (DataAccessException e) {
+            fallbacks.increment();
+            return fallback.tryAcquire(key, limit);
+        }
+
+    }
+
+    @Override
+    public void purgeIdle() {
+        fallback.purgeIdle();
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.iforddow.bizaudo.repository.auth;
 
 import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.util.BizUtils;
 import lombok.NonNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -12,5 +14,41 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @NonNull
     Optional<User> findById(@NonNull UUID id);
 
-    Optional<User> findByEmail(String email);
+    Optional<User> findByEmailNormalized(String emailNormalized);
+
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    default boolean existsByEmail(String email) {
+        return existsByEmailNormalized(BizUtils.normalizeEmail(email));
+    }
+
+    /*
+    * Every lookup by email goes through the unique
+    * index on the normalized email.
+    * */
+    default Optional<User> findByEmail(String email) {
+        return findByEmailNormalized(BizUtils.normalizeEmail(email));
+    }
+
+    /*
+    * Loads the user with their roles and permissions in one
+    * statement, for authenticating and issuing tokens.
+    * */
+    @EntityGraph(User.PRINCIPAL_GRAPH)
+    Optional<User> findPrincipalById(UUID id);
+
+    @EntityGraph(User.PRINCIPAL_GRAPH)
+    Optional<User> findPrincipalByEmailNormalized(String emailNormalized);
+
+    default Optional<User> findPrincipalByEmail(String email) {
+        return findPrincipalByEmailNormalized(BizUtils.normalizeEmail(email));
+    }
+
+    /*
+    * Loads the user with their role names and profile
+    * in one statement, for building a UserDTO.
+    * */
+    @EntityGraph(User.DTO_GRAPH)
+    Optional<User> findDetailedById(UUID id);
+
 }
@@ -0,0 +1,9 @@
+package com.iforddow.bizaudo.repository.mail;
+
+import com.iforddow.bizaudo.jpa.entity.mail.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, UUID> {
+}
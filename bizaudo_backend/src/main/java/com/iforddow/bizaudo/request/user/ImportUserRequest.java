@@ -0,0 +1,20 @@
+package com.iforddow.bizaudo.request.user;
+
+import lombok.Data;
+
+/**
+ * A single user in a bulk import, read from
+ * either a CSV row or an NDJSON line.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Data
+public class ImportUserRequest {
+
+    private String email;
+    private String password;
+    private String firstName;
+    private String lastName;
+
+}
@@ -0,0 +1,135 @@
+package com.iforddow.bizaudo.service.user;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records when users were last active and writes it to the
+ * database behind the request. A refresh only puts the time
+ * in memory, keeping the latest per user, and a scheduled
+ * flush writes everything pending in a few batched UPDATEs
+ * rather than a row write per refresh.
+ *
+ * last_active can lag by up to the flush interval, and by
+ * whatever was pending if the node dies without shutting
+ * down cleanly, which is acceptable for an activity time.
+ * Flushes don't evict the cached user either, so the last
+ * active time in a cached UserDTO can be as old as the entry.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityTracker {
+
+    // Only moves last_active forward, so a flush from a node
+    // with an older time never overwrites a newer one.
+    private static final String FLUSH_SQL = """
+            UPDATE "user" u SET last_active = a.last_active
+            FROM unnest(?::uuid[], ?::timestamptz[]) AS a(id, last_active)
+            WHERE u.id = a.id AND u.last_active < a.last_active
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Users written per UPDATE
+    @Value("${user_activity.batch_size:1000}")
+    private int batchSize = 1000;
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    /**
+     * A method to record that a user was active,
+     * keeping the latest time until the next flush.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public void record(UUID userId, Instant activeAt) {
+        pending.merge(userId, activeAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * A method to write pending activity times to the database.
+     * Each run writes at most what was pending when it started,
+     * so a steady stream of refreshes cannot keep it going.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @Scheduled(fixedDelayString = "${user_activity.flush_interval_ms:30000}")
+    public synchronized void flush() {
+
+        int batches = pending.size() / batchSize + 1;
+
+        for (int i = 0; i < batches && !pending.isEmpty(); i++) {
+            if (!flushBatch()) {
+                return;
+            }
+        }
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean flushBatch() {
+
+        List<UUID> ids = new ArrayList<>(batchSize);
+        List<Instant> times = new ArrayList<>(batchSize);
+
+        for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+            if (ids.size() == batchSize) {
+                break;
+            }
+
+            ids.add(entry.getKey());
+            times.add(entry.getValue());
+        }
+
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        try {
+            jdbcTemplate.update(FLUSH_SQL, ps -> {
+                Connection connection = ps.getConnection();
+                ps.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+                ps.setArray(2, connection.createArrayOf("timestamptz",
+                        times.stream().map(Timestamp::from).toArray()));
+            });
+        } catch (DataAccessException e) {
+            // Left pending for the next run
+            log.warn("Failed to flush activity for {} users, keeping them pending", ids.size(), e);
+            return false;
+        }
+
+        // A user active again since the batch was read keeps their newer time
+        for (int i = 0; i < ids.size(); i++) {
+            pending.remove(ids.get(i), times.get(i));
+        }
+
+        return true;
+
+    }
+
+}
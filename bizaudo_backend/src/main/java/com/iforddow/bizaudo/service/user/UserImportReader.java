@@ -0,0 +1,310 @@
+package com.iforddow.bizaudo.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iforddow.bizaudo.exception.BadRequestException;
+import com.iforddow.bizaudo.request.user.ImportUserRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads bulk import rows one at a time from CSV or NDJSON,
+ * so an import of any size is never held in memory at once.
+ *
+ * CSV needs a header row naming the columns email, password,
+ * first_name and last_name, in any order. NDJSON has one object
+ * per line with the fields of {@link ImportUserRequest}.
+ *
+ * A CSV record may span several lines through a quoted line
+ * break, but only up to MAX_RECORD_LINES lines and
+ * MAX_RECORD_CHARS characters. A quote still open past that is
+ * taken as never closed, so its first line is reported invalid
+ * and reading carries on from the line after it.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+class UserImportReader {
+
+    /**
+     * A row read from the import, or the reason
+     * it could not be read.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    record Row(long line, ImportUserRequest user, String error) {
+    }
+
+    static final int MAX_RECORD_LINES = 20;
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final boolean csv;
+
+    private Map<String, Integer> columns;
+    private long line;
+
+    // The line the last record read started on
+    private long recordLine;
+
+    UserImportReader(BufferedReader reader, ObjectMapper objectMapper, boolean csv) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csv = csv;
+    }
+
+    /**
+     * A method to read the next row, skipping blank lines.
+     *
+     * @return the next row, or null at the end of the input.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    Row next() throws IOException {
+
+        if (csv && columns == null) {
+            readHeader();
+        }
+
+        String record;
+
+        while ((record = readRecord()) != null) {
+
+            if (record.isBlank()) {
+                continue;
+            }
+
+            if (!csv) {
+                try {
+                    return new Row(recordLine, objectMapper.readValue(record, ImportUserRequest.class), null);
+                } catch (IOException e) {
+                    return new Row(recordLine, null, "Line is not a valid user object");
+                }
+            }
+
+            List<String> fields = parseCsv(record);
+
+            if (fields == null) {
+                return new Row(recordLine, null, "Row has an unterminated quote");
+            }
+
+            ImportUserRequest user = new ImportUserRequest();
+            user.setEmail(field(fields, "email"));
+            user.setPassword(field(fields, "password"));
+            user.setFirstName(field(fields, "first_name"));
+            user.setLastName(field(fields, "last_name"));
+
+            return new Row(recordLine, user, null);
+        }
+
+        return null;
+
+    }
+
+    private void readHeader() throws IOException {
+
+        String header = readRecord();
+        List<String> names = header == null ? null : parseCsv(header);
+
+        if (names == null) {
+            throw new BadRequestException("Import is missing its header row");
+        }
+
+        columns = new HashMap<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        if (!columns.containsKey("email") || !columns.containsKey("password")) {
+            throw new BadRequestException("Import header must include email and password");
+        }
+
+    }
+
+    private String field(List<String> fields, String name) {
+
+        Integer index = columns.get(name);
+
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+
+        String value = fields.get(index);
+
+        return value.isEmpty() ? null : value;
+
+    }
+
+    /*
+    * Reads one CSV record, which may span several lines when
+    * a quoted field holds a line break. NDJSON records are
+    * always a single line.
+    * */
+    private String readRecord() throws IOException {
+
+        String first = reader.readLine();
+
+        if (first == null) {
+            return null;
+        }
+
+        line++;
+        recordLine = line;
+
+        if (!csv || quotesBalanced(first)) {
+            return first;
+        }
+
+        String rest = readContinuation();
+
+        return rest == null ? first : first + rest;
+
+    }
+
+    /*
+    * Reads on from a first line with an open quote until the quotes
+    * balance at the end of a line, returning what followed the first
+    * line with its line breaks as \n. If they do not balance within
+    * the record limits, or the input ends first, the reader goes back
+    * to just after the first line and null is returned.
+    * */
+    private String readContinuation() throws IOException {
+
+        reader.mark(MAX_RECORD_CHARS + 1);
+
+        StringBuilder rest = new StringBuilder("\n");
+        boolean open = true;
+        boolean afterCr = false;
+        int lines = 0;
+        int read = 0;
+        int c;
+
+        while ((c = reader.read()) != -1 && ++read <= MAX_RECORD_CHARS) {
+
+            // The \n of a \r\n, whose line was already counted at the \r
+            if (c == '\n' && afterCr) {
+                afterCr = false;
+                continue;
+            }
+
+            afterCr = c == '\r';
+
+            if (c == '\n' || c == '\r') {
+                lines++;
+
+                if (!open) {
+                    skipLineFeedAfter(c);
+                    line += lines;
+                    return rest.toString();
+                }
+
+                if (lines == MAX_RECORD_LINES) {
+                    break;
+                }
+
+                rest.append('\n');
+                continue;
+            }
+
+            if (c == '"') {
+                open = !open;
+            }
+
+            rest.append((char) c);
+        }
+
+        // The last line of the input, with no line break after it
+        if (c == -1 && !open) {
+            line += lines + 1;
+            return rest.toString();
+        }
+
+        reader.reset();
+
+        return null;
+
+    }
+
+    private void skipLineFeedAfter(int c) throws IOException {
+
+        if (c != '\r') {
+            return;
+        }
+
+        reader.mark(1);
+
+        if (reader.read() != '\n') {
+            reader.reset();
+        }
+
+    }
+
+    private static boolean quotesBalanced(CharSequence text) {
+
+        int quotes = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+
+        return quotes % 2 == 0;
+
+    }
+
+    /*
+    * Splits a record on commas, honouring quoted fields
+    * and doubled quotes inside them as in RFC 4180.
+    * Returns null if a quote is never closed.
+    * */
+    static List<String> parseCsv(String record) {
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+
+    }
+
+}
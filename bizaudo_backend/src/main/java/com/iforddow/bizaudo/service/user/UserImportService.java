@@ -0,0 +1,320 @@
+package com.iforddow.bizaudo.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iforddow.bizaudo.bo.user.auth.AuthBO;
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
+import com.iforddow.bizaudo.dto.user.importing.ImportRowResult;
+import com.iforddow.bizaudo.dto.user.importing.ImportStatus;
+import com.iforddow.bizaudo.dto.user.importing.ImportSummary;
+import com.iforddow.bizaudo.exception.ServiceUnavailableException;
+import com.iforddow.bizaudo.request.user.ImportUserRequest;
+import com.iforddow.bizaudo.request.user.auth.RegisterRequest;
+import com.iforddow.bizaudo.util.BizUtils;
+import com.iforddow.bizaudo.util.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A service to create users in bulk from a CSV or NDJSON stream.
+ *
+ * Rows are read and handled in chunks. Each chunk is validated
+ * with {@link AuthBO}, checked against existing accounts in one
+ * query, has its passwords hashed in parallel, and is written
+ * with batched inserts in its own transaction. A result is
+ * written to the report for every row as soon as its chunk is
+ * done, so neither the import nor the report is ever held whole.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final String EXISTING_EMAILS_SQL =
+            "SELECT email_normalized FROM \"user\" WHERE email_normalized = ANY (?)";
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO "user" (id, created_at, email, email_normalized, password, expired, locked,
+                                credentials_expired, enabled, last_active, email_verified, authorities_version)
+            VALUES (?, ?, ?, ?, ?, false, false, false, true, ?, false, 0)
+            ON CONFLICT (email_normalized) DO NOTHING
+            """;
+
+    // Only inserted when the user row was, so a conflict that the
+    // batch could not report on never fails the chunk
+    private static final String INSERT_PROFILE_SQL = """
+            INSERT INTO user_profile (id, created_at, first_name, last_name)
+            SELECT ?, ?, ?, ?
+            WHERE EXISTS (SELECT 1 FROM "user" WHERE id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CredentialPolicy credentialPolicy;
+
+    // Rows per transaction and per insert batch
+    @Value("${user_import.chunk_size:500}")
+    private int chunkSize;
+
+    // Hashes in flight at once. Kept below the password hashing
+    // pool size so logins still get a share of it during an import.
+    @Value("${user_import.hash_concurrency:#{T(java.lang.Math).max(1, T(java.lang.Runtime).getRuntime().availableProcessors() / 2)}}")
+    private int hashConcurrency;
+
+    /**
+     * A method to import users, writing one NDJSON report line
+     * per row and a summary line at the end.
+     *
+     * @param input The import, CSV if csv is set, otherwise NDJSON.
+     * @param csv Whether the import is CSV.
+     * @param report Where the report is written.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public void importUsers(InputStream input, boolean csv, OutputStream report) throws IOException {
+
+        long start = System.nanoTime();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        UserImportReader rows = new UserImportReader(reader, objectMapper, csv);
+
+        Map<ImportStatus, Long> statuses = new EnumMap<>(ImportStatus.class);
+        Set<String> seenEmails = new HashSet<>();
+        long total = 0;
+
+        Semaphore hashPermits = new Semaphore(hashConcurrency);
+
+        try (ExecutorService hashExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<UserImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.Row row;
+
+            do {
+                row = rows.next();
+
+                if (row != null) {
+                    chunk.add(row);
+                }
+
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+
+                    for (ImportRowResult result : importChunk(chunk, seenEmails, hashExecutor, hashPermits)) {
+                        statuses.merge(result.status(), 1L, Long::sum);
+                        report.write(objectMapper.writeValueAsBytes(result));
+                        report.write('\n');
+                    }
+
+                    total += chunk.size();
+                    chunk.clear();
+                    report.flush();
+                }
+
+            } while (row != null);
+
+        }
+
+        for (Map.Entry<ImportStatus, Long> status : statuses.entrySet()) {
+            Counter.builder("user_import.rows")
+                    .tag("status", status.getKey().name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .increment(status.getValue());
+        }
+
+        ImportSummary summary = new ImportSummary(total, statuses, (System.nanoTime() - start) / 1_000_000);
+
+        report.write(objectMapper.writeValueAsBytes(Map.of("summary", summary)));
+        report.write('\n');
+        report.flush();
+
+    }
+
+    private List<ImportRowResult> importChunk(List<UserImportReader.Row> chunk, Set<String> seenEmails,
+                                              ExecutorService hashExecutor, Semaphore hashPermits) {
+
+        AuthBO authBO = new AuthBO(credentialPolicy);
+
+        ImportRowResult[] results = new ImportRowResult[chunk.size()];
+        Map<String, Integer> pending = new LinkedHashMap<>();
+
+        // Validate, and drop emails already seen in this import
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportReader.Row row = chunk.get(i);
+            ImportUserRequest user = row.user();
+
+            if (user == null) {
+                results[i] = ImportRowResult.of(row.line(), null, ImportStatus.INVALID, List.of(row.error()));
+                continue;
+            }
+
+            RegisterRequest registerRequest = new RegisterRequest();
+            registerRequest.setEmail(user.getEmail());
+            registerRequest.setPassword(user.getPassword());
+            registerRequest.setConfirmPassword(user.getPassword());
+
+            List<String> errors = new ArrayList<>(authBO.validateUserRegistration(registerRequest));
+
+            if (user.getFirstName() != null && user.getFirstName().length() > 100) {
+                errors.add("First name must be at most 100 characters");
+            }
+
+            if (user.getLastName() != null && user.getLastName().length() > 100) {
+                errors.add("Last name must be at most 100 characters");
+            }
+
+            if (!errors.isEmpty()) {
+                results[i] = ImportRowResult.of(row.line(), user.getEmail(), ImportStatus.INVALID, errors);
+                continue;
+            }
+
+            String email = BizUtils.normalizeEmail(user.getEmail());
+
+            if (!seenEmails.add(email)) {
+                results[i] = ImportRowResult.of(row.line(), user.getEmail(), ImportStatus.DUPLICATE, List.of());
+                continue;
+            }
+
+            pending.put(email, i);
+        }
+
+        // Skip hashing for accounts that already exist
+        if (!pending.isEmpty()) {
+            List<String> existing = jdbcTemplate.queryForList(EXISTING_EMAILS_SQL, String.class,
+                    (Object) pending.keySet().toArray(new String[0]));
+
+            for (String email : existing) {
+                int i = pending.remove(email);
+                results[i] = ImportRowResult.of(chunk.get(i).line(), chunk.get(i).user().getEmail(),
+                        ImportStatus.EXISTS, List.of());
+            }
+        }
+
+        // Hash in parallel, but never more than hashConcurrency at once
+        Map<Integer, Future<String>> hashes = new LinkedHashMap<>();
+
+        for (int i : pending.values()) {
+            String password = chunk.get(i).user().getPassword();
+            hashes.put(i, hashExecutor.submit(() -> hash(password, hashPermits)));
+        }
+
+        List<NewUser> newUsers = new ArrayList<>(hashes.size());
+        Instant now = Instant.now();
+
+        for (Map.Entry<String, Integer> entry : pending.entrySet()) {
+            int i = entry.getValue();
+            UserImportReader.Row row = chunk.get(i);
+
+            try {
+                newUsers.add(new NewUser(i, UuidV7.generate(), entry.getKey(), row.user(), hashes.get(i).get()));
+            } catch (ExecutionException | InterruptedException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                results[i] = ImportRowResult.of(row.line(), row.user().getEmail(), ImportStatus.FAILED,
+                        List.of("Password could not be hashed"));
+            }
+        }
+
+        if (!newUsers.isEmpty()) {
+            insert(chunk, newUsers, now, results);
+        }
+
+        return Arrays.asList(results);
+
+    }
+
+    private void insert(List<UserImportReader.Row> chunk, List<NewUser> newUsers, Instant now, ImportRowResult[] results) {
+
+        Timestamp createdAt = Timestamp.from(now);
+
+        try {
+            int[] counts = transactionTemplate.execute(status -> {
+
+                int[] userCounts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, newUsers, newUsers.size(), (ps, user) -> {
+                    ps.setObject(1, user.id());
+                    ps.setTimestamp(2, createdAt);
+                    ps.setString(3, user.request().getEmail());
+                    ps.setString(4, user.email());
+                    ps.setString(5, user.passwordHash());
+                    ps.setTimestamp(6, createdAt);
+                })[0];
+
+                jdbcTemplate.batchUpdate(INSERT_PROFILE_SQL, newUsers, newUsers.size(), (ps, user) -> {
+                    ps.setObject(1, user.id());
+                    ps.setTimestamp(2, createdAt);
+                    ps.setString(3, user.request().getFirstName());
+                    ps.setString(4, user.request().getLastName());
+                    ps.setObject(5, user.id());
+                });
+
+                return userCounts;
+            });
+
+            for (int j = 0; j < newUsers.size(); j++) {
+                NewUser user = newUsers.get(j);
+                long line = chunk.get(user.index()).line();
+
+                // 0 means another import or registration took the email
+                // after the pre-check. SUCCESS_NO_INFO counts as created.
+                results[user.index()] = counts != null && counts[j] == 0
+                        ? ImportRowResult.of(line, user.request().getEmail(), ImportStatus.EXISTS, List.of())
+                        : ImportRowResult.created(line, user.request().getEmail(), user.id());
+            }
+
+        } catch (DataAccessException e) {
+            for (NewUser user : newUsers) {
+                results[user.index()] = ImportRowResult.of(chunk.get(user.index()).line(), user.request().getEmail(),
+                        ImportStatus.FAILED, List.of("Chunk could not be written"));
+            }
+        }
+
+    }
+
+    /*
+    * Hashes on the shared password pool. An import can briefly
+    * fill its queue alongside logins, so a rejection is retried
+    * after a pause rather than failing the row.
+    * */
+    private String hash(String password, Semaphore hashPermits) throws InterruptedException {
+
+        hashPermits.acquire();
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return passwordEncoder.encode(password);
+                } catch (ServiceUnavailableException e) {
+                    if (attempt == 20) {
+                        throw e;
+                    }
+                    Thread.sleep(50L * attempt);
+                }
+            }
+        } finally {
+            hashPermits.release();
+        }
+
+    }
+
+    private record NewUser(int index, UUID id, String email, ImportUserRequest request, String passwordHash) {
+    }
+
+}
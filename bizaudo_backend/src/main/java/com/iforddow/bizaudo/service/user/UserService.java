@@ -1,16 +1,19 @@
 package com.iforddow.bizaudo.service.user;
 
+import com.iforddow.bizaudo.cache.CacheKeys;
 import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
 import com.iforddow.bizaudo.exception.ResourceNotFoundException;
 import com.iforddow.bizaudo.jpa.entity.user.User;
 import com.iforddow.bizaudo.repository.auth.UserRepository;
 import com.iforddow.bizaudo.request.user.auth.ChangePasswordRequest;
-import jakarta.transaction.Transactional;
+import com.iforddow.bizaudo.service.util_service.redis.RedisAuthoritiesVersionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -27,6 +30,8 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final RedisAuthoritiesVersionService redisAuthoritiesVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
     * A method to delete a user by their id.
@@ -34,7 +39,6 @@ public class UserService {
     * @author IFD
     * @since 2025-07-17
     * */
-    @CacheEvict(value = "userCache", key = "'user' + #id")
     @Transactional
     public ResponseEntity<Map<String, Object>> delete(UUID id) {
 
@@ -42,20 +46,28 @@ public class UserService {
 
         userRepository.delete(user);
 
+        // Outstanding access tokens must no longer authenticate without a database check
+        redisAuthoritiesVersionService.deleteVersion(id);
+
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+
         return ResponseEntity.ok(Map.of("result", "User successfully deleted"));
 
     }
 
     /**
-    * A method to get a user by their id.
+    * A method to get a user by their id. Loaded with
+    * sync, so a miss fills the cache through its value
+    * loader and is not broadcast to other nodes.
     *
     * @author IFD
     * @since 2025-07-17
     * */
-    @Cacheable(value = "userCache", key = "'user:' + #id", unless = "#result == null")
+    @Cacheable(value = CacheKeys.USER_CACHE, key = "T(com.iforddow.bizaudo.cache.CacheKeys).user(#id)", sync = true)
+    @Transactional(readOnly = true)
     public UserDTO getUser(UUID id) {
 
-        User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        User user = userRepository.findDetailedById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         return new UserDTO(user, true);
 
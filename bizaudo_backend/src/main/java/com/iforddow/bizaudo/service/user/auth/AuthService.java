@@ -1,7 +1,9 @@
 package com.iforddow.bizaudo.service.user.auth;
 
 import com.iforddow.bizaudo.bo.user.auth.AuthBO;
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
 import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
 import com.iforddow.bizaudo.exception.BadRequestException;
 import com.iforddow.bizaudo.exception.InvalidCredentialsException;
 import com.iforddow.bizaudo.exception.ResourceExistsException;
@@ -10,20 +12,20 @@ import com.iforddow.bizaudo.jpa.entity.user.User;
 import com.iforddow.bizaudo.jpa.entity.user.UserProfile;
 import com.iforddow.bizaudo.repository.auth.UserRepository;
 import com.iforddow.bizaudo.request.user.auth.*;
+import com.iforddow.bizaudo.service.user.UserActivityTracker;
+import com.iforddow.bizaudo.service.util_service.JwtClaims;
 import com.iforddow.bizaudo.service.util_service.JwtService;
+import com.iforddow.bizaudo.service.util_service.redis.RedisAuthoritiesVersionService;
 import com.iforddow.bizaudo.service.util_service.redis.RedisRefreshTokenService;
 import com.iforddow.bizaudo.util.TokenHasher;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -35,11 +37,14 @@ import java.util.*;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final TokenHasher tokenHasher;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final RedisAuthoritiesVersionService redisAuthoritiesVersionService;
+    private final CredentialPolicy credentialPolicy;
+    private final UserActivityTracker userActivityTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * A method to handle user registration.
@@ -52,7 +57,7 @@ public class AuthService {
     @Transactional
     public ResponseEntity<Map<String, Object>> register(RegisterRequest registerRequest) throws BadRequestException {
 
-        AuthBO authBO = new AuthBO();
+        AuthBO authBO = new AuthBO(credentialPolicy);
 
         ArrayList<String> errors = authBO.validateUserRegistration(registerRequest);
 
@@ -60,11 +65,9 @@ public class AuthService {
             throw new BadRequestException("Registration failed: " + String.join(", ", errors));
         }
 
-        // Check to ensure the password is not null or empty
-        Optional<User> existingUser = userRepository.findByEmail(registerRequest.getEmail());
-
-        // If a user with the same email already exists, throw an exception
-        if (existingUser.isPresent()) {
+        // Turns away most duplicates before paying for a hash, the
+        // unique index below still decides when two registrations race
+        if (userRepository.existsByEmail(registerRequest.getEmail())) {
             throw new ResourceExistsException("A user with this email already exists");
         }
 
@@ -85,7 +88,18 @@ public class AuthService {
 
         user.setProfile(profile);
 
-        userRepository.save(user);
+        // A single insert, the unique index on the normalized email
+        // rejects duplicates even when two registrations race
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+
+            if (isConstraintViolation(e, User.EMAIL_NORMALIZED_CONSTRAINT)) {
+                throw new ResourceExistsException("A user with this email already exists");
+            }
+
+            throw e;
+        }
 
         return ResponseEntity.ok(Map.of("result", "User successfully registered"));
 
@@ -103,24 +117,38 @@ public class AuthService {
     @Transactional
     public ResponseEntity<Map<String, Object>> login(LoginRequest loginRequest, HttpServletResponse response) throws BadRequestException {
 
-        User user = userRepository.findByEmail(loginRequest.getEmail()).orElseThrow(
+        User user = userRepository.findPrincipalByEmail(loginRequest.getEmail()).orElseThrow(
                 () -> new ResourceNotFoundException("User email not found")
         );
 
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
-            );
+        // Verify against the user already loaded rather than going through the
+        // authentication manager, which would load the user and its roles again.
+        // The checks and their order follow DaoAuthenticationProvider.
+        if (!user.isAccountNonLocked()) {
+            throw new BadRequestException("Authentication failed: User account is locked");
+        }
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (!user.isEnabled()) {
+            throw new BadRequestException("Authentication failed: User is disabled");
+        }
 
-        } catch (AuthenticationException ex) {
+        if (!user.isAccountNonExpired()) {
+            throw new BadRequestException("Authentication failed: User account has expired");
+        }
 
-            if (ex instanceof BadCredentialsException) {
-                throw new InvalidCredentialsException("Invalid credentials provided");
-            }
-            // Log or return the specific error
-            throw new BadRequestException("Authentication failed: " + ex.getMessage());
+        if (loginRequest.getPassword() == null || !passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            throw new InvalidCredentialsException("Invalid credentials provided");
+        }
+
+        if (!user.isCredentialsNonExpired()) {
+            throw new BadRequestException("Authentication failed: User credentials have expired");
+        }
+
+        // Rehash passwords stored with weaker Argon2 parameters
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(loginRequest.getPassword()));
+            userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         }
 
         String newAccessToken = createNewTokens(response, user);
@@ -141,33 +169,39 @@ public class AuthService {
     @Transactional
     public ResponseEntity<Map<String, Object>> refreshToken(String refreshToken, HttpServletResponse response) throws BadRequestException {
 
-        if(!jwtService.validateJwtToken(refreshToken)) {
-            throw new BadRequestException("Invalid token");
-        }
+        JwtClaims claims = jwtService.verify(refreshToken).orElseThrow(
+                () -> new BadRequestException("Invalid token")
+        );
 
         String hashedRefreshToken = tokenHasher.hmacSha256(refreshToken);
 
-        UUID userId = redisRefreshTokenService.getUserIdFromToken(hashedRefreshToken);
+        String newRefreshToken = jwtService.generateRefreshToken(claims.userId(), claims.email());
+        String newHashedRefreshToken = tokenHasher.hmacSha256(newRefreshToken);
+
+        // Revoke the old token and store the new one in a single atomic step
+        UUID userId = redisRefreshTokenService.rotateToken(hashedRefreshToken, newHashedRefreshToken,
+                claims.userId(), Instant.now().plusMillis(jwtService.jwtRefreshExpirationMs));
 
         if(userId == null) {
             throw new BadRequestException("Invalid token");
         }
 
-        User user = userRepository.findById(userId).orElseThrow(
+        User user = userRepository.findPrincipalById(userId).orElseThrow(
                 () -> new ResourceNotFoundException("User not found")
         );
 
-        redisRefreshTokenService.revokeToken(hashedRefreshToken);
+        String newAccessToken = jwtService.generateJwtToken(user);
 
-        String newAccessToken = createNewTokens(response, user);
+        redisAuthoritiesVersionService.publishVersion(user.getId(), user.getAuthoritiesVersion());
 
-        // Update the user's last active time
-        user.setLastActive(new Date().toInstant());
+        addRefreshCookie(response, newRefreshToken);
 
-        // Save the updated user back to the database
-        userRepository.save(user);
+        // Written to the database in the tracker's next flush. The
+        // user is left untouched, or dirty checking would save it.
+        Instant now = Instant.now();
+        userActivityTracker.record(user.getId(), now);
 
-        UserDTO userDTO = new UserDTO(user, false);
+        UserDTO userDTO = new UserDTO(user, false).withLastActive(now);
 
         return ResponseEntity.ok(Map.of("accessToken", newAccessToken, "user", userDTO));
 
@@ -185,25 +219,23 @@ public class AuthService {
     @Transactional
     public ResponseEntity<Map<String, Object>> logout(String refreshToken, boolean allDevices, HttpServletResponse response) throws BadRequestException {
 
-        if (!jwtService.validateJwtToken(refreshToken)) {
-            throw new BadRequestException("Invalid JWT token");
-        }
+        JwtClaims claims = jwtService.verify(refreshToken).orElseThrow(
+                () -> new BadRequestException("Invalid JWT token")
+        );
 
         String hashedRefreshToken = tokenHasher.hmacSha256(refreshToken);
 
         if (allDevices) {
 
-            UUID userId = redisRefreshTokenService.getUserIdFromToken(hashedRefreshToken);
-
-            if (userId == null) {
+            if (!redisRefreshTokenService.isActive(hashedRefreshToken, claims.userId())) {
                 throw new BadRequestException("Refresh token not found or expired");
             }
 
-            redisRefreshTokenService.revokeAllTokensForUser(userId);
+            redisRefreshTokenService.revokeAllTokensForUser(claims.userId());
 
         } else {
 
-            redisRefreshTokenService.revokeToken(hashedRefreshToken);
+            redisRefreshTokenService.revokeToken(hashedRefreshToken, claims.userId());
 
         }
 
@@ -223,7 +255,7 @@ public class AuthService {
 
     /**
      * A method to create tokens for the user
-     * upon logging in and refresh.
+     * upon logging in.
      *
      * @author IFD
      * @since 2025-07-18
@@ -235,7 +267,40 @@ public class AuthService {
 
         redisRefreshTokenService.storeToken(newHashedRefreshToken, user.getId(), Instant.now().plusMillis(jwtService.jwtRefreshExpirationMs));
 
-        Cookie refreshCookie = new Cookie("biz_rt", newRefreshToken);
+        // Publish the version embedded in the access token so requests can trust it
+        redisAuthoritiesVersionService.publishVersion(user.getId(), user.getAuthoritiesVersion());
+
+        addRefreshCookie(response, newRefreshToken);
+
+        return newAccessToken;
+    }
+
+    /**
+     * A method to check whether a failed write was
+     * rejected by the named constraint.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     */
+    private boolean isConstraintViolation(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraintName.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A method to set the refresh token cookie
+     * on the response.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     */
+    private void addRefreshCookie(HttpServletResponse response, String refreshToken) {
+        Cookie refreshCookie = new Cookie("biz_rt", refreshToken);
 
         refreshCookie.setHttpOnly(true);
         refreshCookie.setPath("/");
@@ -243,8 +308,6 @@ public class AuthService {
         refreshCookie.setSecure(true);
 
         response.addCookie(refreshCookie);
-
-        return newAccessToken;
     }
 
 }
@@ -1,5 +1,6 @@
 package com.iforddow.bizaudo.service.user.auth;
 
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
 import com.iforddow.bizaudo.exception.BadRequestException;
 import com.iforddow.bizaudo.exception.ResourceNotFoundException;
 import com.iforddow.bizaudo.jpa.entity.user.User;
@@ -9,6 +10,7 @@ import com.iforddow.bizaudo.service.util_service.redis.RedisEmailVerificationTok
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -26,6 +28,7 @@ public class EmailVerificationService {
     private final MailService mailService;
     private final RedisEmailVerificationTokenService redisEmailVerificationTokenService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${frontend.base.url}")
     private String frontendURL;
@@ -77,6 +80,8 @@ public class EmailVerificationService {
 
         userRepository.save(user);
 
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+
         redisEmailVerificationTokenService.deleteToken(token);
 
     }
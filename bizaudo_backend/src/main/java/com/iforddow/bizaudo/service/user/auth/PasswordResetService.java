@@ -1,6 +1,8 @@
 package com.iforddow.bizaudo.service.user.auth;
 
 import com.iforddow.bizaudo.bo.user.auth.AuthBO;
+import com.iforddow.bizaudo.bo.user.auth.policy.CredentialPolicy;
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
 import com.iforddow.bizaudo.exception.BadRequestException;
 import com.iforddow.bizaudo.exception.ResourceNotFoundException;
 import com.iforddow.bizaudo.jpa.entity.user.User;
@@ -12,6 +14,7 @@ import com.iforddow.bizaudo.service.util_service.redis.RedisPasswordResetTokenSe
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -34,6 +37,8 @@ public class PasswordResetService {
     private final PasswordEncoder passwordEncoder;
     private final RedisPasswordResetTokenService redisPasswordResetTokenService;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CredentialPolicy credentialPolicy;
 
     @Value("${frontend.base.url}")
     private String frontendURL;
@@ -52,7 +57,7 @@ public class PasswordResetService {
         String newPassword = changePasswordRequest.getNewPassword();
         String confirmNewPassword = changePasswordRequest.getConfirmNewPassword();
 
-        AuthBO authBO = new AuthBO();
+        AuthBO authBO = new AuthBO(credentialPolicy);
         ArrayList<String> errors = authBO.validatePassword(oldPassword, newPassword, confirmNewPassword);
 
         //If BO validation is faulty throw an error
@@ -125,7 +130,7 @@ public class PasswordResetService {
 
         boolean passwordSameAsOld = passwordEncoder.matches(newPassword, oldPassword);
 
-        AuthBO authBO = new AuthBO();
+        AuthBO authBO = new AuthBO(credentialPolicy);
 
         ArrayList<String> errors = new ArrayList<>(authBO.validatePassword(newPassword, confirmNewPassword));
 
@@ -156,6 +161,8 @@ public class PasswordResetService {
 
         userRepository.save(user);
 
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+
     }
 
 }
@@ -0,0 +1,33 @@
+package com.iforddow.bizaudo.service.util_service;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The verified contents of a JWT token. Instances are
+ * only ever produced by {@link JwtService#verify(String)}
+ * after the signature and expiry have been checked, so
+ * callers can trust every field without parsing again.
+ *
+ * @param userId The id of the user the token was issued to.
+ * @param email The email of the user at the time of issue.
+ * @param issuedAt When the token was issued.
+ * @param expiresAt When the token expires.
+ * @param authorities The role and permission authorities embedded in the token.
+ * @param authoritiesVersion The authorities version of the user at the time of
+ *                           issue, or -1 if the token carries no authorities.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public record JwtClaims(UUID userId, String email, Instant issuedAt, Instant expiresAt,
+                        List<GrantedAuthority> authorities, long authoritiesVersion) {
+
+    public boolean hasAuthorities() {
+        return authoritiesVersion >= 0;
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.iforddow.bizaudo.service.util_service;
 
+import com.iforddow.bizaudo.jpa.entity.rbac.Role;
 import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.util.UuidV7;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Date;
+import java.util.*;
 
 /**
  * A service for handling JWT (JSON Web Token) operations.
@@ -33,8 +39,38 @@ public class JwtService {
     @Value("${jwt.refresh_expiration}")
     public int jwtRefreshExpirationMs;
 
+    // Claim names for the embedded authorities, kept short as they are sent on every request
+    private static final String ROLES_CLAIM = "rol";
+    private static final String PERMISSIONS_CLAIM = "prm";
+    private static final String AUTHORITIES_VERSION_CLAIM = "av";
+
+    // The signing key, derived once from the secret
+    private SecretKey signingKey;
+
+    // The parser used to verify tokens, it is immutable and thread safe
+    private JwtParser jwtParser;
+
+    /**
+     * A method to derive the signing key and build the
+     * token parser once the secret has been injected, so
+     * they are not rebuilt for every token.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /**
-     * A method to generate a JWT token for a user.
+     * A method to generate a JWT token for a user. The token
+     * embeds the users role and permission code names along
+     * with their authorities version, so requests can be
+     * authenticated from the token alone.
      *
      * @param user The username for which to generate the JWT token.
      * @return A JWT token as a String.
@@ -43,12 +79,29 @@ public class JwtService {
      * @since 2025-06-15
      * */
     public String generateJwtToken(User user) {
+
+        Set<String> roles = new LinkedHashSet<>();
+        Set<String> permissions = new LinkedHashSet<>();
+
+        if (user.getRoles() != null) {
+            for (Role role : user.getRoles()) {
+                roles.add(role.getCodeName());
+
+                if (role.getPermissions() != null) {
+                    role.getPermissions().forEach(p -> permissions.add(p.getCodeName()));
+                }
+            }
+        }
+
         return Jwts.builder()
                 .setSubject(user.getId().toString())
                 .claim("email", user.getEmail())
+                .claim(ROLES_CLAIM, roles)
+                .claim(PERMISSIONS_CLAIM, permissions)
+                .claim(AUTHORITIES_VERSION_CLAIM, user.getAuthoritiesVersion())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -62,15 +115,73 @@ public class JwtService {
      * @since  2025-06-15
      * */
     public String generateRefreshToken(User user) {
+        return generateRefreshToken(user.getId(), user.getEmail());
+    }
+
+    /**
+     * A method to generate a refresh token from a users id
+     * and email, so a token can be rotated without loading
+     * the user first. Each token gets a unique id, so two
+     * tokens issued in the same second never hash the same.
+     *
+     * @param userId The id of the user to generate the refresh token for.
+     * @param email The email of the user to generate the refresh token for.
+     * @return A JWT refresh token as a String.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public String generateRefreshToken(UUID userId, String email) {
         return Jwts.builder()
-                .setSubject(user.getId().toString())
-                .claim("email", user.getEmail())
+                .setId(UuidV7.generate().toString())
+                .setSubject(userId.toString())
+                .claim("email", email)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtRefreshExpirationMs))
-                .signWith(getKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * A method to verify a JWT token and read its claims
+     * in a single parse.
+     *
+     * @param token The JWT token to verify.
+     * @return The verified claims, or empty if the token is not valid.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public Optional<JwtClaims> verify(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+            Long authoritiesVersion = claims.get(AUTHORITIES_VERSION_CLAIM, Long.class);
+
+            return Optional.of(new JwtClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant(),
+                    readAuthorities(claims),
+                    authoritiesVersion != null ? authoritiesVersion : -1
+            ));
+        } catch (SecurityException e) {
+            System.out.println("Invalid JWT signature: " + e.getMessage());
+        } catch (MalformedJwtException e) {
+            System.out.println("Invalid JWT token: " + e.getMessage());
+        } catch (ExpiredJwtException e) {
+            System.out.println("JWT token is expired: " + e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            System.out.println("JWT token is unsupported: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.out.println("JWT claims string is empty: " + e.getMessage());
+        } catch (Exception e) {
+            System.out.println("JWT validation error: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * A method to extract the users id from a JWT token.
      *
@@ -81,9 +192,7 @@ public class JwtService {
      * @since 2025-06-15
      * */
     public String getUserIdFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey()).build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
@@ -98,26 +207,37 @@ public class JwtService {
      * @since 2025-06-15
      * */
     public boolean validateJwtToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException e) {
-            System.out.println("Invalid JWT signature: " + e.getMessage());
-        } catch (MalformedJwtException e) {
-            System.out.println("Invalid JWT token: " + e.getMessage());
-        } catch (ExpiredJwtException e) {
-            System.out.println("JWT token is expired: " + e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            System.out.println("JWT token is unsupported: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            System.out.println("JWT claims string is empty: " + e.getMessage());
-        } catch (Exception e) {
-            System.out.println("JWT validation error: " + e.getMessage());
+        return verify(token).isPresent();
+    }
+
+    /**
+     * A method to build the granted authorities from the
+     * role and permission claims, matching the authorities
+     * a {@link User} reports for itself.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    private List<GrantedAuthority> readAuthorities(Claims claims) {
+
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        List<?> permissions = claims.get(PERMISSIONS_CLAIM, List.class);
+
+        if (roles == null && permissions == null) {
+            return List.of();
         }
-        return false;
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+
+        if (roles != null) {
+            roles.forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role)));
+        }
+
+        if (permissions != null) {
+            permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.toString())));
+        }
+
+        return List.copyOf(authorities);
     }
 
     /**
@@ -129,7 +249,7 @@ public class JwtService {
      * @since 2025-06-15
      * */
     public Key getKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
 
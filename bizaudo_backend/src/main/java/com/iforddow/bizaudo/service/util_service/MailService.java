@@ -1,30 +1,38 @@
 package com.iforddow.bizaudo.service.util_service;
 
+import com.iforddow.bizaudo.jpa.entity.mail.MailOutbox;
+import com.iforddow.bizaudo.repository.mail.MailOutboxRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
+/**
+ * A service to send mail. Mails are written to the outbox,
+ * in the callers transaction when there is one, and sent in
+ * the background by the MailOutboxDispatcher, so a request
+ * never waits on, or fails with, the mail server.
+ *
+ * @author IFD
+ * @since 2025-07-24
+ * */
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
-
-    @Value("${mail.sender}")
-    private String emailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     public void sendMail(String to, String subject, String content) {
 
-        SimpleMailMessage message = new SimpleMailMessage();
-
-        message.setFrom(emailSender);
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(content);
+        Instant now = Instant.now();
 
-        mailSender.send(message);
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(content)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
 
     }
 
@@ -0,0 +1,208 @@
+package com.iforddow.bizaudo.service.util_service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of already verified JWT tokens that sits
+ * in front of {@link JwtService}. A token that has been seen
+ * before is served from memory without checking its signature
+ * again. Entries are keyed by a digest of the token, so the
+ * raw tokens are never kept, and an entry is never returned
+ * once its token has expired.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Service
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    // The maximum number of verified tokens to hold
+    @Value("${jwt.cache.max_entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<TokenDigest, JwtClaims> entries = new ConcurrentHashMap<>();
+
+    // Ensures only one thread evicts at a time
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * A method to register the cache counters with
+     * the meter registry.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void registerMetrics() {
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A method to verify a JWT token, using the cached
+     * claims when the same token has already been verified
+     * and has not yet expired.
+     *
+     * @param token The JWT token to verify.
+     * @return The verified claims, or empty if the token is not valid.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public Optional<JwtClaims> verify(String token) {
+
+        TokenDigest digest = TokenDigest.of(token);
+        Instant now = Instant.now();
+
+        JwtClaims cached = entries.get(digest);
+
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+
+            entries.remove(digest, cached);
+        }
+
+        misses.increment();
+
+        Optional<JwtClaims> claims = jwtService.verify(token);
+
+        claims.ifPresent(verified -> {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+
+            // Skip caching rather than grow past the bound while another thread evicts
+            if (entries.size() < maxEntries) {
+                entries.put(digest, verified);
+            }
+        });
+
+        return claims;
+    }
+
+    /**
+     * A method to drop expired tokens on a schedule, so
+     * they do not linger in memory until the next eviction.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @Scheduled(fixedDelayString = "${jwt.cache.purge_interval_ms:30000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        entries.values().removeIf(claims -> !claims.expiresAt().isAfter(now));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * A method to bring the cache back under its bound. Expired
+     * tokens are removed first, then arbitrary entries until a
+     * tenth of the capacity is free.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    private void evict(Instant now) {
+
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int target = maxEntries - Math.max(1, maxEntries / 10);
+
+            Iterator<Map.Entry<TokenDigest, JwtClaims>> iterator = entries.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                if (!iterator.next().getValue().expiresAt().isAfter(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+
+            iterator = entries.entrySet().iterator();
+
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * The first 128 bits of the SHA-256 digest of a token,
+     * used as the cache key.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    record TokenDigest(long high, long low) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.UTF_8));
+
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+
+                return new TokenDigest(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.iforddow.bizaudo.service.util_service.impl;
 
+import com.iforddow.bizaudo.jpa.entity.user.User;
 import com.iforddow.bizaudo.repository.auth.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -22,13 +24,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userRepository.findPrincipalByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User with email " + email + " not found"));
     }
 
-    public UserDetails loadUserById(UUID id) throws UsernameNotFoundException {
-        return userRepository.findById(id)
+    /*
+    * Called by the JwtFilter only when the token's authorities
+    * version is stale, which is just after the user's roles
+    * changed and when a replica is most likely to be behind.
+    * So this is not read only and always reads the primary, and
+    * the version republished from it is never older than the row.
+    * */
+    @Transactional
+    public User loadUserById(UUID id) throws UsernameNotFoundException {
+        return userRepository.findPrincipalById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User with id " + id + " not found"));
     }
 
@@ -0,0 +1,314 @@
+package com.iforddow.bizaudo.service.util_service.mail;
+
+import com.iforddow.bizaudo.jpa.entity.mail.MailStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the mail outbox in the background.
+ *
+ * Each run claims a batch of due mails with FOR UPDATE SKIP LOCKED,
+ * so any number of nodes can dispatch without sending a mail twice.
+ * A claim is a lease: the row moves to SENDING with its due time
+ * pushed out, and if the node dies before recording the outcome the
+ * mail becomes due again once the lease runs out.
+ *
+ * The batch is split into groups, each sent over one pooled SMTP
+ * session on its own virtual thread. Failed mails are retried
+ * with exponential backoff and jitter, and after the last attempt
+ * are left as DEAD for someone to look at.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxDispatcher {
+
+    private static final String CLAIM_SQL = """
+            UPDATE mail_outbox SET status = 'SENDING', next_attempt_at = ?
+            WHERE id IN (
+                SELECT id FROM mail_outbox
+                WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, recipient, subject, body, attempts, created_at
+            """;
+
+    // The body is cleared as it holds reset and verification links
+    private static final String SENT_SQL =
+            "UPDATE mail_outbox SET status = 'SENT', sent_at = ?, attempts = attempts + 1, body = '', last_error = NULL WHERE id = ?";
+
+    private static final String FAILED_SQL =
+            "UPDATE mail_outbox SET status = ?, next_attempt_at = ?, attempts = ?, last_error = ? WHERE id = ?";
+
+    private static final String BACKLOG_SQL =
+            "SELECT count(*) FROM mail_outbox WHERE status IN ('PENDING', 'SENDING')";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM mail_outbox WHERE status = 'SENT' AND sent_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledMailTransport mailTransport;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.sender}")
+    private String emailSender;
+
+    // Mails claimed per run
+    @Value("${mail.outbox.batch_size:50}")
+    private int batchSize;
+
+    // Sessions used at once to send a batch, at most mail.transport.pool_size
+    @Value("${mail.outbox.concurrency:4}")
+    private int concurrency;
+
+    // How long a claim holds a mail before another node may take it
+    @Value("${mail.outbox.lease_ms:120000}")
+    private long leaseMs;
+
+    @Value("${mail.outbox.max_attempts:8}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.retry_base_ms:30000}")
+    private long retryBaseMs;
+
+    @Value("${mail.outbox.retry_max_ms:3600000}")
+    private long retryMaxMs;
+
+    // How long sent mails are kept before being purged
+    @Value("${mail.outbox.retention_hours:72}")
+    private long retentionHours;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private Counter sent;
+    private Counter retried;
+    private Counter dead;
+    private Timer batchTimer;
+    private Timer lagTimer;
+
+    /**
+     * A method to register the outbox metrics
+     * with the meter registry.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void registerMetrics() {
+        sent = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        retried = Counter.builder("mail.outbox.retried").register(meterRegistry);
+        dead = Counter.builder("mail.outbox.dead").register(meterRegistry);
+        batchTimer = Timer.builder("mail.outbox.batch.latency").register(meterRegistry);
+        lagTimer = Timer.builder("mail.outbox.lag").register(meterRegistry);
+        Gauge.builder("mail.outbox.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * A method to send every due mail, claiming batches
+     * until a claim comes back short.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll_interval_ms:1000}")
+    public void dispatch() {
+
+        List<OutboxMail> batch;
+
+        do {
+            batch = claim();
+
+            if (!batch.isEmpty()) {
+                batchTimer.record(deliverBatch(batch));
+            }
+        } while (batch.size() == batchSize);
+
+        Long count = jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class);
+        backlog.set(count == null ? 0 : count);
+
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.purge_interval_ms:3600000}")
+    public void purgeSent() {
+        jdbcTemplate.update(PURGE_SQL, Timestamp.from(Instant.now().minus(Duration.ofHours(retentionHours))));
+    }
+
+    private List<OutboxMail> claim() {
+
+        Instant now = Instant.now();
+
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxMail(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("body"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toInstant()),
+                Timestamp.from(now.plusMillis(leaseMs)), Timestamp.from(now), batchSize);
+
+    }
+
+    private Duration deliverBatch(List<OutboxMail> batch) {
+
+        long start = System.nanoTime();
+
+        // Deal the batch out into one group per connection
+        int groups = Math.max(1, Math.min(concurrency, batch.size()));
+        List<List<OutboxMail>> grouped = new ArrayList<>(groups);
+
+        for (int i = 0; i < groups; i++) {
+            grouped.add(new ArrayList<>());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            grouped.get(i % groups).add(batch.get(i));
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<Future<Map<UUID, String>>> results = new ArrayList<>(groups);
+
+            for (List<OutboxMail> group : grouped) {
+                results.add(executor.submit(() -> deliver(group)));
+            }
+
+            for (int i = 0; i < groups; i++) {
+                try {
+                    failures.putAll(results.get(i).get());
+                } catch (Exception e) {
+                    for (OutboxMail mail : grouped.get(i)) {
+                        failures.put(mail.id(), String.valueOf(e.getMessage()));
+                    }
+                }
+            }
+        }
+
+        record(batch, failures);
+
+        return Duration.ofNanos(System.nanoTime() - start);
+
+    }
+
+    /*
+    * Sends a group of mails over one pooled session, returning
+    * the error for each mail that could not be sent.
+    * */
+    Map<UUID, String> deliver(List<OutboxMail> group) {
+
+        Map<SimpleMailMessage, UUID> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[group.size()];
+
+        for (int i = 0; i < group.size(); i++) {
+            OutboxMail mail = group.get(i);
+
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(emailSender);
+            message.setTo(mail.recipient());
+            message.setSubject(mail.subject());
+            message.setText(mail.body());
+
+            messages[i] = message;
+            ids.put(message, mail.id());
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+
+        try {
+            mailTransport.send(messages);
+        } catch (MailSendException e) {
+
+            if (e.getFailedMessages().isEmpty()) {
+                group.forEach(mail -> failures.put(mail.id(), String.valueOf(e.getMessage())));
+            }
+
+            e.getFailedMessages().forEach((message, cause) ->
+                    failures.put(ids.get(message), String.valueOf(cause.getMessage())));
+
+        } catch (MailException e) {
+            group.forEach(mail -> failures.put(mail.id(), String.valueOf(e.getMessage())));
+        }
+
+        return failures;
+
+    }
+
+    private void record(List<OutboxMail> batch, Map<UUID, String> failures) {
+
+        Instant now = Instant.now();
+        List<Object[]> sentRows = new ArrayList<>();
+
+        for (OutboxMail mail : batch) {
+
+            String error = failures.get(mail.id());
+
+            if (error == null) {
+                sentRows.add(new Object[]{Timestamp.from(now), mail.id()});
+                lagTimer.record(Duration.between(mail.createdAt(), now));
+                continue;
+            }
+
+            int attempts = mail.attempts() + 1;
+            boolean giveUp = attempts >= maxAttempts;
+
+            jdbcTemplate.update(FAILED_SQL,
+                    (giveUp ? MailStatus.DEAD : MailStatus.PENDING).name(),
+                    Timestamp.from(giveUp ? now : now.plusMillis(backoffMs(attempts))),
+                    attempts,
+                    error.length() > 500 ? error.substring(0, 500) : error,
+                    mail.id());
+
+            (giveUp ? dead : retried).increment();
+        }
+
+        if (!sentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(SENT_SQL, sentRows);
+            sent.increment(sentRows.size());
+        }
+
+    }
+
+    /*
+    * Doubles with each attempt up to the maximum, with up to
+    * 20% jitter either way so retries after an outage spread out.
+    * */
+    long backoffMs(int attempts) {
+
+        long backoff = retryBaseMs << Math.min(attempts - 1, 30);
+
+        if (backoff <= 0 || backoff > retryMaxMs) {
+            backoff = retryMaxMs;
+        }
+
+        return (long) (backoff * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+
+    }
+
+    record OutboxMail(UUID id, String recipient, String subject, String body, int attempts, Instant createdAt) {
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.iforddow.bizaudo.service.util_service.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends mail over a small pool of connected and authenticated
+ * SMTP sessions. JavaMailSender opens a connection, with its
+ * TLS handshake and AUTH, for every send call and closes it
+ * after, which is most of the cost of a mail. Here a session
+ * is kept open and reused across sends, and replaced after
+ * a number of messages or once it has sat idle too long.
+ *
+ * The session settings (host, port, credentials and the
+ * mail.smtp.* properties) are those of the configured
+ * JavaMailSenderImpl. JavaMail waits forever by default, so
+ * its connect, read and write timeouts are set when they
+ * are not configured there.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledMailTransport {
+
+    private final JavaMailSenderImpl mailSender;
+    private final MeterRegistry meterRegistry;
+
+    // The most sessions open at once
+    @Value("${mail.transport.pool_size:4}")
+    private int poolSize = 4;
+
+    // Servers often limit the messages sent on one connection
+    @Value("${mail.transport.max_messages_per_connection:100}")
+    private int maxMessagesPerConnection = 100;
+
+    // Kept below the server's own idle timeout
+    @Value("${mail.transport.max_idle_ms:60000}")
+    private long maxIdleMs = 60_000;
+
+    // Each SMTP command may take this long, so a group of sends
+    // has to fit within the outbox lease, mail.outbox.lease_ms
+    @Value("${mail.transport.timeout_ms:5000}")
+    private long timeoutMs = 5_000;
+
+    private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private Semaphore permits;
+
+    private Timer sentTimer;
+    private Timer failedTimer;
+    private Timer connectTimer;
+    private Counter opened;
+    private DistributionSummary messagesPerConnection;
+
+    /**
+     * A method to size the pool and register the
+     * transport metrics with the meter registry.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void init() {
+        applyTimeouts();
+        permits = new Semaphore(Math.max(1, poolSize));
+        sentTimer = Timer.builder("mail.transport.send.latency").tag("outcome", "sent").register(meterRegistry);
+        failedTimer = Timer.builder("mail.transport.send.latency").tag("outcome", "failed").register(meterRegistry);
+        connectTimer = Timer.builder("mail.transport.connect.latency").register(meterRegistry);
+        opened = Counter.builder("mail.transport.connections.opened").register(meterRegistry);
+        messagesPerConnection = DistributionSummary.builder("mail.transport.connection.messages").register(meterRegistry);
+        Gauge.builder("mail.transport.connections.idle", idle, ConcurrentLinkedDeque::size).register(meterRegistry);
+    }
+
+    /*
+    * Sets the JavaMail timeouts that were not configured.
+    * The properties are set again as a whole, since that
+    * drops a session created with the old ones.
+    * */
+    private void applyTimeouts() {
+
+        Properties properties = mailSender.getJavaMailProperties();
+        String prefix = "mail." + mailSender.getProtocol() + ".";
+
+        for (String timeout : new String[] {"connectiontimeout", "timeout", "writetimeout"}) {
+            properties.putIfAbsent(prefix + timeout, String.valueOf(timeoutMs));
+        }
+
+        mailSender.setJavaMailProperties(properties);
+
+    }
+
+    /**
+     * A method to send messages over one pooled session,
+     * in order. A message the server refuses does not stop
+     * the rest, and a dropped connection is replaced.
+     *
+     * @throws MailSendException naming each message that
+     * could not be sent, as JavaMailSender does.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public void send(SimpleMailMessage... messages) {
+
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted waiting for a mail connection", e);
+        }
+
+        PooledConnection connection = null;
+
+        try {
+            for (int i = 0; i < messages.length; i++) {
+
+                try {
+                    if (connection != null && connection.sent >= maxMessagesPerConnection) {
+                        close(connection, "recycled");
+                        connection = null;
+                    }
+                    if (connection == null) {
+                        connection = acquire();
+                    }
+                } catch (MessagingException e) {
+                    // The server can't be reached, so nothing else will send either
+                    for (int j = i; j < messages.length; j++) {
+                        failures.put(messages[j], e);
+                    }
+                    break;
+                }
+
+                long start = System.nanoTime();
+
+                try {
+                    MimeMessage message = toMimeMessage(messages[i]);
+                    connection.transport.sendMessage(message, message.getAllRecipients());
+                    connection.sent++;
+                    sentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } catch (MessagingException | MailException e) {
+                    failures.put(messages[i], e);
+                    failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                    if (!connection.transport.isConnected()) {
+                        close(connection, "broken");
+                        connection = null;
+                    }
+                }
+            }
+        } finally {
+            if (connection != null) {
+                connection.lastUsed = System.nanoTime();
+                idle.offerFirst(connection);
+            }
+            permits.release();
+        }
+
+        if (!failures.isEmpty()) {
+            throw new MailSendException(failures);
+        }
+
+    }
+
+    /**
+     * Closes sessions that have sat idle too long, so
+     * the server is not left to time them out.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @Scheduled(fixedDelayString = "${mail.transport.evict_interval_ms:30000}")
+    public void evictIdle() {
+
+        // Idle sessions are offered at the head, so the oldest are at the tail
+        Iterator<PooledConnection> connections = idle.descendingIterator();
+
+        while (connections.hasNext()) {
+            PooledConnection connection = connections.next();
+
+            if (expired(connection) && idle.remove(connection)) {
+                close(connection, "idle");
+            }
+        }
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        PooledConnection connection;
+
+        while ((connection = idle.pollFirst()) != null) {
+            close(connection, "shutdown");
+        }
+
+    }
+
+    /*
+    * Takes the most recently used open session, closing any
+    * that have expired or dropped, or opens a new one.
+    * */
+    private PooledConnection acquire() throws MessagingException {
+
+        PooledConnection connection;
+
+        while ((connection = idle.pollFirst()) != null) {
+
+            if (expired(connection)) {
+                close(connection, "idle");
+            } else if (!connection.transport.isConnected()) {
+                close(connection, "broken");
+            } else {
+                return connection;
+            }
+        }
+
+        return connect();
+
+    }
+
+    private PooledConnection connect() throws MessagingException {
+
+        long start = System.nanoTime();
+
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+
+        connectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        opened.increment();
+
+        return new PooledConnection(transport);
+
+    }
+
+    private void close(PooledConnection connection, String reason) {
+
+        meterRegistry.counter("mail.transport.connections.closed", "reason", reason).increment();
+        messagesPerConnection.record(connection.sent);
+
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            log.warn("Failed to close mail connection: {}", e.getMessage());
+        }
+
+    }
+
+    private boolean expired(PooledConnection connection) {
+        return System.nanoTime() - connection.lastUsed > maxIdleMs * 1_000_000L;
+    }
+
+    private MimeMessage toMimeMessage(SimpleMailMessage simpleMessage) throws MessagingException {
+
+        MimeMessage message = mailSender.createMimeMessage();
+        simpleMessage.copyTo(new MimeMailMessage(message));
+
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+
+        message.saveChanges();
+
+        return message;
+
+    }
+
+    /**
+     * An open SMTP session and the number of
+     * messages that have been sent over it.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    private static final class PooledConnection {
+
+        private final Transport transport;
+        private int sent;
+        private long lastUsed = System.nanoTime();
+
+        private PooledConnection(Transport transport) {
+            this.transport = transport;
+        }
+
+    }
+
+}
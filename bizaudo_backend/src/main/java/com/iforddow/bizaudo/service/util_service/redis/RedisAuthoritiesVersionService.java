@@ -0,0 +1,127 @@
+package com.iforddow.bizaudo.service.util_service.redis;
+
+import com.iforddow.bizaudo.event.user.AuthoritiesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A service to track the current authorities version of
+ * each user. Access tokens embed the version they were issued
+ * with, and the JWT filter compares it against this value to
+ * decide whether the embedded authorities are still current.
+ *
+ * The stored version only ever goes up. A request holding an old
+ * token may reload the user just before a role change commits and
+ * publish the version it read; if that could overwrite the newer
+ * one, tokens carrying the revoked authorities would be trusted
+ * again until the key expired.
+ *
+ * Nothing in the application changes roles or permissions yet,
+ * so whatever does has to bump the version itself, or tokens keep
+ * their old authorities until they expire:
+ *
+ * - In code, increment the user's authorities_version in the same
+ *   Spring transaction as the change, then publish an
+ *   AuthoritiesChangedEvent with the new version and a
+ *   UserChangedEvent. The version reaches redis after the commit.
+ * - In SQL, increment authorities_version in the same transaction,
+ *   for every user holding a role whose permissions changed, and
+ *   once it commits delete authoritiesVersion:&lt;user id&gt; from
+ *   redis. The next request then reloads the user from the primary
+ *   and publishes the new version.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Service
+@RequiredArgsConstructor
+public class RedisAuthoritiesVersionService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String VERSION_PREFIX = "authoritiesVersion:";
+
+    /*
+    * Stores the version unless a higher one is already stored,
+    * extending the expiry either way.
+    *
+    * KEYS: version key
+    * ARGV: version, ttl in ms
+    * Returns the version now stored
+    * */
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            local version = tonumber(ARGV[1])
+            if current and current >= version then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return current
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return version
+            """, Long.class);
+
+    // Kept as long as a refresh token, so every token issued in between can be checked
+    @Value("${jwt.refresh_expiration}")
+    private int jwtRefreshExpirationMs;
+
+    /**
+    * A method to publish the current authorities version
+    * of a user. A lower version than the one stored is
+    * ignored, so publishing a version read from the database
+    * is safe even if a newer one has since been published.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public void publishVersion(UUID userId, long version) {
+        stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(VERSION_PREFIX + userId),
+                Long.toString(version), Integer.toString(jwtRefreshExpirationMs));
+    }
+
+    /**
+    * Publishes a bumped version once the change that bumped
+    * it has committed. Publishing before the commit would let
+    * a concurrent reload read the old row and trust old tokens.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuthoritiesChanged(AuthoritiesChangedEvent event) {
+        publishVersion(event.userId(), event.version());
+    }
+
+    /**
+    * A method to get the current authorities version
+    * of a user, null if it is not known.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public Long getVersion(UUID userId) {
+        String value = stringRedisTemplate.opsForValue().get(VERSION_PREFIX + userId);
+
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    /**
+    * A method to forget the version of a user, forcing
+    * the next request to reload them from the database.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public void deleteVersion(UUID userId) {
+        stringRedisTemplate.delete(VERSION_PREFIX + userId);
+    }
+
+}
@@ -19,6 +19,7 @@ public class RedisEmailVerificationTokenService {
 
     public UUID generateAndStoreToken(String email) {
 
+        // Random rather than UuidV7, as the token is the secret
         UUID token = UUID.randomUUID();
 
         redisTemplate.opsForValue().set(TOKEN_PREFIX + token, email, TOKEN_TTL);
@@ -19,6 +19,7 @@ public class RedisPasswordResetTokenService {
 
     public UUID generateAndStoreToken(UUID userId) {
 
+        // Random rather than UuidV7, as the token is the secret
         UUID token = UUID.randomUUID();
 
         redisTemplate.opsForValue().set(TOKEN_PREFIX + token, userId, TOKEN_TTL);
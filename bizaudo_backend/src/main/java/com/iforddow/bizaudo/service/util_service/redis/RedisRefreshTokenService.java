@@ -2,24 +2,108 @@ package com.iforddow.bizaudo.service.util_service.redis;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * A service to store refresh token sessions in redis.
+ *
+ * Sessions are kept in one hash per user, refreshSessions:<uuid>,
+ * with one field per session. The field is the first 128 bits of
+ * the hashed token in unpadded base64url, and the value holds the
+ * session expiry and issue time in epoch seconds as "exp:iat". Small
+ * hashes use the compact listpack encoding, so a session costs a
+ * field in a shared key rather than a key of its own plus a set
+ * member, and a lookup by token is still a single HGET.
+ *
+ * Tokens issued before this layout live under refreshToken:<hash>
+ * with a userTokens:<uuid> index. They are still honoured until they
+ * expire: a rotation that misses the new layout falls back to the
+ * legacy keys once and stores the new token in the new layout, and the
+ * sweeper empties the legacy indexes as their tokens expire.
+ *
+ * @author IFD
+ * @since 2025-07-20
+ * */
 @Service
 @RequiredArgsConstructor
 public class RedisRefreshTokenService {
 
     private final StringRedisTemplate stringRedisTemplate;
 
-    private static final String TOKEN_PREFIX = "refreshToken:";
-    private static final String USER_TOKENS_PREFIX = "userTokens:";
+    static final String SESSIONS_PREFIX = "refreshSessions:";
 
+    // Legacy layout, read only until the last of those tokens expires
+    static final String TOKEN_PREFIX = "refreshToken:";
+    static final String USER_TOKENS_PREFIX = "userTokens:";
+
+    // The number of digest bytes kept in a session field
+    private static final int FIELD_BYTES = 16;
+
+    /*
+    * Stores a session in the users hash. The hash expires with
+    * its newest session, which always outlives the older ones
+    * since every refresh token has the same lifetime.
+    *
+    * KEYS: sessions key
+    * ARGV: field, value, ttl in ms
+    * */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /*
+    * Swaps an old session for a new one in a single round trip.
+    * The old session must exist and not have expired, otherwise
+    * nothing is stored and 0 is returned, so only one of two
+    * concurrent refreshes can ever succeed.
+    *
+    * KEYS: sessions key
+    * ARGV: old field, new field, new value, now in epoch seconds, ttl in ms
+    * */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('HGET', KEYS[1], ARGV[1])
+            if not session then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            local expiresAt = tonumber(string.match(session, '^(%d+)'))
+            if expiresAt <= tonumber(ARGV[4]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /*
+    * Consumes a token stored in the legacy layout, if it
+    * still exists and belongs to the expected user.
+    *
+    * KEYS: legacy token key, legacy user tokens key
+    * ARGV: user id, hashed token
+    * */
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>("""
+            local userId = redis.call('GET', KEYS[1])
+            if not userId or userId ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
 
     /**
     * A method to store a refresh token in the redis
@@ -29,29 +113,58 @@ public class RedisRefreshTokenService {
     * @since 2025-07-20
     * */
     public void storeToken(String hashedToken, UUID uuid, Instant expiresAt) {
-        String tokenKey = TOKEN_PREFIX + hashedToken;
-        String userTokensKey = USER_TOKENS_PREFIX + uuid.toString();
+        long ttlMs = Duration.between(Instant.now(), expiresAt).toMillis();
 
-        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        stringRedisTemplate.execute(STORE_SCRIPT, List.of(SESSIONS_PREFIX + uuid),
+                sessionField(hashedToken), sessionValue(expiresAt), Long.toString(ttlMs));
+    }
+
+    /**
+    * A method to atomically revoke a refresh token and
+    * store its replacement.
+    *
+    * @return The id of the user the token belonged to, or null
+    * if the old token was not found, already used or belongs to
+    * another user.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public UUID rotateToken(String oldHashedToken, String newHashedToken, UUID uuid, Instant expiresAt) {
+        long ttlMs = Duration.between(Instant.now(), expiresAt).toMillis();
 
-        stringRedisTemplate.opsForValue().set(tokenKey, uuid.toString(), ttl);
+        Long rotated = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(SESSIONS_PREFIX + uuid),
+                sessionField(oldHashedToken), sessionField(newHashedToken), sessionValue(expiresAt),
+                Long.toString(Instant.now().getEpochSecond()), Long.toString(ttlMs));
 
-        stringRedisTemplate.opsForSet().add(userTokensKey, hashedToken);
+        if (isOne(rotated)) {
+            return uuid;
+        }
+
+        // The token may predate the hash layout, consume it there and migrate the session
+        if (consumeLegacyToken(oldHashedToken, uuid)) {
+            storeToken(newHashedToken, uuid, expiresAt);
+            return uuid;
+        }
+
+        return null;
     }
 
-    /*
-    * A method to get the user id from
-    * a refresh token.
+    /**
+    * A method to check if a refresh token is an
+    * active session of a user.
     *
     * @author IFD
-    * @since 2025-07-20
+    * @since 2026-10-18
     * */
-    public UUID getUserIdFromToken(String hashedToken) {
-        String tokenKey = TOKEN_PREFIX + hashedToken;
+    public boolean isActive(String hashedToken, UUID uuid) {
+        Object session = stringRedisTemplate.opsForHash().get(SESSIONS_PREFIX + uuid, sessionField(hashedToken));
 
-        String value = stringRedisTemplate.opsForValue().get(tokenKey);
+        if (session != null) {
+            return expiresAt(session.toString()) > Instant.now().getEpochSecond();
+        }
 
-        return value != null ? UUID.fromString(value) : null;
+        return uuid.toString().equals(stringRedisTemplate.opsForValue().get(TOKEN_PREFIX + hashedToken));
     }
 
     /**
@@ -60,21 +173,12 @@ public class RedisRefreshTokenService {
     * @author IFD
     * @since 2025-07-20
     * */
-    public void revokeToken(String hashedToken) {
-        String tokenKey = TOKEN_PREFIX + hashedToken;
-
-        // Get userId to remove token from user set
-        String userIdStr = stringRedisTemplate.opsForValue().get(tokenKey);
-
-        if (userIdStr != null) {
-            String userTokensKey = USER_TOKENS_PREFIX + userIdStr;
+    public void revokeToken(String hashedToken, UUID uuid) {
+        Long removed = stringRedisTemplate.opsForHash().delete(SESSIONS_PREFIX + uuid, sessionField(hashedToken));
 
-            // Remove token from user's token set
-            stringRedisTemplate.opsForSet().remove(userTokensKey, hashedToken);
+        if (removed == null || removed == 0) {
+            consumeLegacyToken(hashedToken, uuid);
         }
-
-        // Delete the token key itself
-        stringRedisTemplate.delete(tokenKey);
     }
 
     /*
@@ -85,6 +189,8 @@ public class RedisRefreshTokenService {
     * @since 2025-07-25
     * */
     public void revokeAllTokensForUser(UUID uuid) {
+        stringRedisTemplate.delete(SESSIONS_PREFIX + uuid);
+
         String userTokensKey = USER_TOKENS_PREFIX + uuid.toString();
 
         Set<String> userTokens = stringRedisTemplate.opsForSet().members(userTokensKey);
@@ -99,4 +205,45 @@ public class RedisRefreshTokenService {
         stringRedisTemplate.delete(userTokensKey);
     }
 
+    /**
+    * A method to read the expiry, in epoch seconds,
+    * from a session value.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    static long expiresAt(String sessionValue) {
+        int separator = sessionValue.indexOf(':');
+
+        return Long.parseLong(separator < 0 ? sessionValue : sessionValue.substring(0, separator));
+    }
+
+    /**
+    * A method to shorten a hashed token into a session field.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    static String sessionField(String hashedToken) {
+        byte[] digest = Base64.getDecoder().decode(hashedToken);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FIELD_BYTES));
+    }
+
+    private static String sessionValue(Instant expiresAt) {
+        return expiresAt.getEpochSecond() + ":" + Instant.now().getEpochSecond();
+    }
+
+    private boolean consumeLegacyToken(String hashedToken, UUID uuid) {
+        Long consumed = stringRedisTemplate.execute(CONSUME_LEGACY_SCRIPT,
+                List.of(TOKEN_PREFIX + hashedToken, USER_TOKENS_PREFIX + uuid),
+                uuid.toString(), hashedToken);
+
+        return isOne(consumed);
+    }
+
+    private static boolean isOne(Long result) {
+        return result != null && result == 1L;
+    }
+
 }
@@ -0,0 +1,258 @@
+package com.iforddow.bizaudo.service.util_service.redis;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.RedisKeyAsyncCommands;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A background job that prunes refresh sessions which expired
+ * naturally. Expired fields are removed from the per user session
+ * hashes, and dead members from the legacy per user token sets
+ * until those drain. Work is done in bounded slices: each run
+ * visits a limited number of keys of each kind, picking up the key
+ * scans where the previous run left off, and walks each key with
+ * HSCAN or SSCAN in fixed size batches.
+ *
+ * Only the numeric SCAN cursor is kept between runs, and each run
+ * issues fresh SCANs from it. SCAN is stateless on the server, so
+ * nothing holds a connection between runs, and a failed run just
+ * resumes from the same cursor next time.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisRefreshTokenSweeper {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // The number of keys of each kind to visit per run
+    @Value("${refresh_token.sweep.sets_per_run:200}")
+    private int setsPerRun;
+
+    // The number of fields or members to check per round trip
+    @Value("${refresh_token.sweep.batch_size:100}")
+    private int batchSize;
+
+    private static final String SCAN_START = ScanCursor.INITIAL.getCursor();
+    private static final long SCAN_TIMEOUT_SECONDS = 10;
+
+    // Where the key scans in progress are up to, kept between runs
+    private String sessionCursor = SCAN_START;
+    private String legacySetCursor = SCAN_START;
+
+    private Counter membersScanned;
+    private Counter membersReclaimed;
+    private Counter setsScanned;
+
+    @PostConstruct
+    public void registerMetrics() {
+        membersScanned = meterRegistry.counter("refresh_tokens.sweep.members_scanned");
+        membersReclaimed = meterRegistry.counter("refresh_tokens.sweep.members_reclaimed");
+        setsScanned = meterRegistry.counter("refresh_tokens.sweep.sets_scanned");
+    }
+
+    /**
+    * A method to sweep the next slice of user
+    * session hashes and legacy token sets.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    @Scheduled(fixedDelayString = "${refresh_token.sweep.interval_ms:60000}")
+    public synchronized void sweep() {
+
+        int visited = sweepSlice(RedisRefreshTokenService.SESSIONS_PREFIX, sessionCursor,
+                this::sweepSessions, cursor -> sessionCursor = cursor);
+
+        visited += sweepSlice(RedisRefreshTokenService.USER_TOKENS_PREFIX, legacySetCursor,
+                this::sweepSet, cursor -> legacySetCursor = cursor);
+
+        setsScanned.increment(visited);
+    }
+
+    /*
+    * Visits up to setsPerRun keys with the prefix, starting at the
+    * cursor, saving the cursor once every key a SCAN returned has
+    * been swept. A finished scan saves the start cursor, so the
+    * next run starts over. If redis fails the cursor is left where
+    * it was, and sweeping those keys again next run is harmless.
+    * */
+    private int sweepSlice(String prefix, String cursor, Consumer<String> sweeper, Consumer<String> saveCursor) {
+
+        int visited = 0;
+
+        try {
+            do {
+                KeyScanCursor<byte[]> slice = scanKeys(prefix, cursor);
+
+                for (byte[] key : slice.getKeys()) {
+                    sweeper.accept(new String(key, StandardCharsets.UTF_8));
+                    visited++;
+                }
+
+                cursor = slice.isFinished() ? SCAN_START : slice.getCursor();
+                saveCursor.accept(cursor);
+
+            } while (visited < setsPerRun && !cursor.equals(SCAN_START));
+        } catch (RuntimeException e) {
+            log.warn("Refresh token sweep of {} failed, resuming from the same cursor next run", prefix, e);
+        }
+
+        return visited;
+    }
+
+    @SuppressWarnings("unchecked")
+    private KeyScanCursor<byte[]> scanKeys(String prefix, String cursor) {
+        return stringRedisTemplate.execute((RedisCallback<KeyScanCursor<byte[]>>) connection -> {
+            RedisKeyAsyncCommands<byte[], byte[]> commands =
+                    (RedisKeyAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+
+            return LettuceFutures.awaitOrCancel(
+                    commands.scan(ScanCursor.of(cursor), ScanArgs.Builder.matches(prefix + "*").limit(setsPerRun)),
+                    SCAN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        });
+    }
+
+    /**
+    * A method to remove every expired session from
+    * a user session hash.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    private void sweepSessions(String sessionsKey) {
+
+        long now = Instant.now().getEpochSecond();
+
+        try (Cursor<Map.Entry<Object, Object>> sessions = stringRedisTemplate.opsForHash().scan(sessionsKey,
+                ScanOptions.scanOptions().count(batchSize).build())) {
+
+            List<Object> expired = new ArrayList<>();
+            int scanned = 0;
+
+            while (sessions.hasNext()) {
+                Map.Entry<Object, Object> session = sessions.next();
+                scanned++;
+
+                if (RedisRefreshTokenService.expiresAt(session.getValue().toString()) <= now) {
+                    expired.add(session.getKey());
+                }
+
+                if (expired.size() == batchSize) {
+                    removeSessions(sessionsKey, expired);
+                    expired.clear();
+                }
+            }
+
+            if (!expired.isEmpty()) {
+                removeSessions(sessionsKey, expired);
+            }
+
+            membersScanned.increment(scanned);
+        }
+    }
+
+    private void removeSessions(String sessionsKey, List<Object> fields) {
+        Long removed = stringRedisTemplate.opsForHash().delete(sessionsKey, fields.toArray());
+        membersReclaimed.increment(removed != null ? removed : 0);
+    }
+
+    /**
+    * A method to remove every member of a legacy user
+    * set whose token key no longer exists.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    private void sweepSet(String userTokensKey) {
+
+        try (Cursor<String> members = stringRedisTemplate.opsForSet().scan(userTokensKey,
+                ScanOptions.scanOptions().count(batchSize).build())) {
+
+            List<String> batch = new ArrayList<>(batchSize);
+
+            while (members.hasNext()) {
+                batch.add(members.next());
+
+                if (batch.size() == batchSize) {
+                    pruneBatch(userTokensKey, batch);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                pruneBatch(userTokensKey, batch);
+            }
+        }
+    }
+
+    /**
+    * A method to check a batch of members in one pipelined
+    * round trip and remove the dead ones.
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    private void pruneBatch(String userTokensKey, List<String> batch) {
+
+        List<Object> exists = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String hashedToken : batch) {
+                connection.keyCommands().exists(tokenKey(hashedToken));
+            }
+            return null;
+        });
+
+        List<String> dead = new ArrayList<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (!isPresent(exists.get(i))) {
+                dead.add(batch.get(i));
+            }
+        }
+
+        membersScanned.increment(batch.size());
+
+        if (!dead.isEmpty()) {
+            Long removed = stringRedisTemplate.opsForSet().remove(userTokensKey, dead.toArray());
+            membersReclaimed.increment(removed != null ? removed : 0);
+        }
+    }
+
+    private static byte[] tokenKey(String hashedToken) {
+        return (RedisRefreshTokenService.TOKEN_PREFIX + hashedToken).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isPresent(Object exists) {
+        if (exists instanceof Boolean present) {
+            return present;
+        }
+        return exists instanceof Long count && count > 0;
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.iforddow.bizaudo.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Picks Argon2 parameters for the host it runs on. Memory is
+ * raised first, since that is what makes the hash expensive to
+ * attack, then iterations fill up the rest of the target latency.
+ * Used at startup when password.argon2.calibrate is set, or on
+ * its own to print the properties for a cluster.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+@Slf4j
+public final class Argon2Calibrator {
+
+    public static final int SALT_LENGTH = 16;
+    public static final int HASH_LENGTH = 32;
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final String SAMPLE_PASSWORD = "Calibrati0n!Passw0rd";
+
+    /**
+     * The parameters of an Argon2 hash, and how long
+     * a single hash took with them on this host.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public record Argon2Settings(int memoryKib, int iterations, int parallelism, long measuredMs) {
+
+        public Argon2PasswordEncoder encoder() {
+            return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, parallelism, memoryKib, iterations);
+        }
+
+    }
+
+    private Argon2Calibrator() {
+    }
+
+    /**
+     * A method to find the strongest parameters whose
+     * hash time stays at or under the target latency.
+     *
+     * @param targetMs The latency to aim for per hash.
+     * @param minMemoryKib The memory cost to start from, never lowered.
+     * @param maxMemoryKib The memory cost never to go past.
+     * @param minIterations The iteration count to start from, never lowered.
+     * @param parallelism The lanes per hash.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static Argon2Settings calibrate(long targetMs, int minMemoryKib, int maxMemoryKib,
+                                           int minIterations, int parallelism) {
+
+        int memory = minMemoryKib;
+        int iterations = minIterations;
+        long time = measure(memory, iterations, parallelism);
+
+        // Doubling memory roughly doubles the time, so stop
+        // once another doubling would overshoot.
+        while (time * 2 <= targetMs && memory * 2L <= maxMemoryKib) {
+            memory *= 2;
+            time = measure(memory, iterations, parallelism);
+        }
+
+        while (true) {
+            long perIteration = Math.max(1, time / iterations);
+
+            if (time + perIteration > targetMs) {
+                break;
+            }
+
+            iterations++;
+            time = measure(memory, iterations, parallelism);
+        }
+
+        return new Argon2Settings(memory, iterations, parallelism, time);
+
+    }
+
+    /**
+     * The memory cost, in KiB, at which the given number of
+     * hashes running at once fill the given share of the heap.
+     *
+     * @param threads The hashes that can run at once.
+     * @param heapPercent The share of the max heap hashing may use.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static int heapBudgetKib(int threads, int heapPercent) {
+
+        long budget = Runtime.getRuntime().maxMemory() / 100 * heapPercent;
+
+        return (int) Math.min(Integer.MAX_VALUE, budget / Math.max(1, threads) / 1024);
+
+    }
+
+    /**
+     * A method to time a single hash with the given
+     * parameters, as the median of a few runs.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static long measure(int memoryKib, int iterations, int parallelism) {
+
+        Argon2PasswordEncoder encoder = new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH,
+                parallelism, memoryKib, iterations);
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+
+        long[] runs = new long[MEASURED_RUNS];
+
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            runs[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        Arrays.sort(runs);
+
+        return runs[MEASURED_RUNS / 2];
+
+    }
+
+    /**
+     * Runs the calibration once and prints the properties to
+     * set, e.g. on a node of the target cluster:
+     * java -cp app.jar -Dloader.main=com.iforddow.bizaudo.util.Argon2Calibrator
+     *     org.springframework.boot.loader.launch.PropertiesLauncher [targetMs] [maxMemoryKib] [parallelism]
+     * Give it the same -Xmx as the service, and size maxMemoryKib
+     * so the hashing threads fit in that heap.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public static void main(String[] args) {
+
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : 250;
+        int maxMemoryKib = args.length > 1 ? Integer.parseInt(args[1]) : 64 * 1024;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        Argon2Settings settings = calibrate(targetMs, 16 * 1024, maxMemoryKib, 2, parallelism);
+
+        log.info("Argon2 hash took {}ms for a target of {}ms", settings.measuredMs(), targetMs);
+
+        // The properties themselves are the output, for pasting into a config
+        System.out.println("password.argon2.memory_kib=" + settings.memoryKib());
+        System.out.println("password.argon2.iterations=" + settings.iterations());
+        System.out.println("password.argon2.parallelism=" + settings.parallelism());
+
+    }
+
+}
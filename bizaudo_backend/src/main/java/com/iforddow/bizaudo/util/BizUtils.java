@@ -1,5 +1,7 @@
 package com.iforddow.bizaudo.util;
 
+import java.util.Locale;
+
 /**
 * A utility class to provide helpful methods
 * throughout the application.
@@ -53,4 +55,22 @@ public class BizUtils {
         return str.substring(0, 1).toUpperCase() + str.substring(1);
     }
 
+    /**
+    * A method to normalize an email address for
+    * comparison, by trimming it and lower casing it.
+    *
+    * @return the normalized email, or null if the email is null
+    *
+    * @author IFD
+    * @since 2026-10-18
+    * */
+    public static String normalizeEmail(String email) {
+
+        if(email == null) {
+            return null;
+        }
+
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
 }
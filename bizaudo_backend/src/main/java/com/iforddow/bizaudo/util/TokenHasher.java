@@ -1,21 +1,71 @@
 package com.iforddow.bizaudo.util;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * HMACs refresh and one-time tokens before they are stored.
+ * A Mac is built and keyed once, and initialized copies of it
+ * are kept in a shared pool. A pool rather than a ThreadLocal,
+ * since requests can run on virtual threads and each of those
+ * would otherwise key its own Mac and never reuse it.
+ *
+ * @author IFD
+ * @since 2025-07-18
+ * */
 @Component
 public class TokenHasher {
 
+    // Tokens longer than this are still hashed, but their scratch
+    // buffer is not kept in the pool.
+    private static final int MAX_RETAINED_INPUT = 8 * 1024;
+
     @Value("${hmac.algo}")
     private String hmacAlgo;
 
     @Value("${hmac.secret}")
     private String hmacSecret;
 
+    @Value("${hmac.pool.max_idle:64}")
+    private int maxIdle = 64;
+
+    private Mac prototype;
+
+    private final ConcurrentLinkedQueue<HmacContext> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+
+    /**
+     * Builds and keys the prototype Mac that
+     * pooled instances are copied from.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    @PostConstruct
+    public void init() {
+
+        try {
+            prototype = Mac.getInstance(hmacAlgo);
+            prototype.init(new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), hmacAlgo));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize " + hmacAlgo, e);
+        }
+
+    }
+
     /**
      * A method to hash a String using
      * SHA-256 algorithm.
@@ -25,17 +75,180 @@ public class TokenHasher {
      * */
     public String hmacSha256(String str) {
 
+        HmacContext context = acquire();
+
+        try {
+            return context.hash(str);
+        } finally {
+            release(context);
+        }
+
+    }
+
+    /**
+     * Hashes the remaining bytes of the input and writes the
+     * raw MAC to the output, advancing both buffers. Nothing
+     * is allocated once the pool is warm.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public void hmacSha256(ByteBuffer input, ByteBuffer output) {
+
+        HmacContext context = acquire();
+
+        try {
+            context.mac.update(input);
+            context.mac.doFinal(context.digest, 0);
+            output.put(context.digest);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            release(context);
+        }
+
+    }
+
+    /**
+     * Hashes many tokens with a single pooled Mac,
+     * returning the hashes in the same order.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public List<String> hmacSha256All(List<String> tokens) {
+
+        List<String> hashes = new ArrayList<>(tokens.size());
+        HmacContext context = acquire();
+
         try {
-            SecretKeySpec keySpec = new SecretKeySpec(hmacSecret.getBytes(), hmacAlgo);
-            Mac mac = Mac.getInstance(hmacAlgo);
-            mac.init(keySpec);
+            for (String token : tokens) {
+                hashes.add(context.hash(token));
+            }
+        } finally {
+            release(context);
+        }
+
+        return hashes;
+
+    }
+
+    /**
+     * The length in bytes of a raw MAC, for
+     * sizing the output of the buffer API.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    public int macLength() {
+        return prototype.getMacLength();
+    }
+
+    private HmacContext acquire() {
+
+        HmacContext context = pool.poll();
+
+        if (context != null) {
+            idle.decrementAndGet();
+            return context;
+        }
+
+        return new HmacContext(copyPrototype());
+
+    }
+
+    private void release(HmacContext context) {
+
+        if (context.input.length > MAX_RETAINED_INPUT) {
+            return;
+        }
+
+        if (idle.incrementAndGet() <= maxIdle) {
+            pool.offer(context);
+        } else {
+            idle.decrementAndGet();
+        }
+
+    }
+
+    private Mac copyPrototype() {
+
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // Not every provider can clone a keyed Mac.
+            try {
+                Mac mac = Mac.getInstance(hmacAlgo);
+                mac.init(new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), hmacAlgo));
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("Unable to initialize " + hmacAlgo, ex);
+            }
+        }
+
+    }
+
+    /**
+     * A Mac with the scratch buffers it needs to hash a
+     * String and Base64 encode the result. Only ever used
+     * by the thread that took it from the pool.
+     *
+     * @author IFD
+     * @since 2026-10-18
+     * */
+    private static final class HmacContext {
+
+        private final Mac mac;
+        private final byte[] digest;
+        private final byte[] encoded;
+        private byte[] input = new byte[512];
+
+        private HmacContext(Mac mac) {
+            this.mac = mac;
+            this.digest = new byte[mac.getMacLength()];
+            this.encoded = new byte[4 * ((digest.length + 2) / 3)];
+        }
+
+        private String hash(String str) {
+
+            int length = str.length();
+
+            if (length > input.length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+
+            // Tokens are ASCII, so copy the chars straight into the
+            // scratch buffer and only fall back to a UTF-8 encode
+            // for anything outside that range.
+            for (int i = 0; i < length; i++) {
+                char c = str.charAt(i);
+
+                if (c >= 0x80) {
+                    mac.update(str.getBytes(StandardCharsets.UTF_8));
+                    return finish();
+                }
+
+                input[i] = (byte) c;
+            }
+
+            mac.update(input, 0, length);
+
+            return finish();
+
+        }
+
+        private String finish() {
+
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
 
-            byte[] rawHmac = mac.doFinal(str.getBytes());
+            int length = Base64.getEncoder().encode(digest, encoded);
 
-            return Base64.getEncoder().encodeToString(rawHmac);
+            return new String(encoded, 0, length, StandardCharsets.ISO_8859_1);
 
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
 
     }
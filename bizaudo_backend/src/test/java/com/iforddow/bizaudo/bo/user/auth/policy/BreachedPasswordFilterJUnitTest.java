@@ -0,0 +1,75 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BreachedPasswordFilterJUnitTest {
+
+    private static final int BREACHED = 10_000;
+
+    private Path hashList;
+    private Path filterFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        hashList = Files.createTempFile("breached", ".txt");
+        filterFile = Files.createTempFile("breached", ".bloom");
+
+        List<String> lines = new ArrayList<>();
+        lines.add("not a hash");
+
+        for (int i = 0; i < BREACHED; i++) {
+            lines.add(HexFormat.of().withUpperCase().formatHex(BreachedPasswordFilter.sha1("breached-" + i)) + ":" + i);
+        }
+
+        Files.write(hashList, lines, StandardCharsets.US_ASCII);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(hashList);
+        Files.deleteIfExists(filterFile);
+    }
+
+    @Test
+    public void testBuildAndLookup() throws IOException {
+
+        assertEquals(BREACHED, BreachedPasswordFilterBuilder.build(hashList, filterFile, 0.01));
+
+        try (BreachedPasswordFilter filter = BreachedPasswordFilter.open(filterFile)) {
+
+            for (int i = 0; i < BREACHED; i++) {
+                assertTrue(filter.mightContain("breached-" + i));
+            }
+
+            int falsePositives = 0;
+
+            for (int i = 0; i < BREACHED; i++) {
+                if (filter.mightContain("safe-" + i)) {
+                    falsePositives++;
+                }
+            }
+
+            // Built for 1%, allow some slack
+            assertTrue(falsePositives < BREACHED * 0.02, "False positives: " + falsePositives);
+        }
+
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Files.writeString(filterFile, "definitely not a filter file, but long enough for a header");
+        assertThrows(IllegalArgumentException.class, () -> BreachedPasswordFilter.open(filterFile));
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.iforddow.bizaudo.bo.user.auth.policy;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CredentialPolicyJUnitTest {
+
+    // The checks AuthBO made before the policy engine
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final String ALPHABET = "aZ9!@.-_%+ {}é\"xY0,<";
+
+    private final CredentialPolicy policy = CredentialPolicy.defaults();
+
+    @Test
+    public void testPasswordMatchesRegexRules() {
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String password = randomString(random, 40);
+            assertEquals(regexPasswordErrors(password), messages(policy.checkPassword(password)), password);
+        }
+
+    }
+
+    @Test
+    public void testEmailMatchesRegex() {
+
+        for (String email : List.of("jane@example.com", "j.a_n%e+1@sub.example.co", "@example.com", "jane@.com",
+                "jane@example.c", "jane@example.c0m", "jane@@example.com", "jane@example", "jane@exa mple.com",
+                "jane@example..com", "jane@-.co", "jané@example.com", "")) {
+            assertEquals(email.matches(EMAIL_REGEX), policy.checkEmail(email).isEmpty(), email);
+        }
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            String email = randomString(random, 6) + "@" + randomString(random, 6) + "." + randomString(random, 4);
+            assertEquals(email.matches(EMAIL_REGEX), policy.checkEmail(email).isEmpty(), email);
+        }
+
+    }
+
+    @Test
+    public void testExtraRulesRunAfterBuiltIns() {
+
+        CredentialPolicy withRule = CredentialPolicy.builder()
+                .rule((password, violations) -> violations.add(new PolicyViolation("password.test", "Rejected")))
+                .build();
+
+        List<PolicyViolation> violations = withRule.checkPassword("short");
+
+        assertEquals("password.length", violations.get(0).code());
+        assertEquals("password.test", violations.get(violations.size() - 1).code());
+
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> messages(List<PolicyViolation> violations) {
+        return violations.stream().map(PolicyViolation::message).toList();
+    }
+
+    private static List<String> regexPasswordErrors(String password) {
+
+        List<String> errors = new ArrayList<>();
+
+        if (password == null || password.isEmpty()) {
+            errors.add("Password cannot be null or empty");
+            return errors;
+        }
+        if (password.length() < 8 || password.length() > 32) {
+            errors.add("Password must be between 8 and 32 characters long");
+        }
+        if (!password.matches(".*[A-Z].*")) {
+            errors.add("Password must contain at least one uppercase letter");
+        }
+        if (!password.matches(".*[a-z].*")) {
+            errors.add("Password must contain at least one lowercase letter");
+        }
+        if (!password.matches(".*\\d.*")) {
+            errors.add("Password must contain at least one digit");
+        }
+        if (!password.matches(".*[!@#$%^&*(),.?\":{}|<>].*")) {
+            errors.add("Password must contain at least one special character");
+        }
+
+        return errors;
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.iforddow.bizaudo.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LayeredCacheJUnitTest {
+
+    private final List<String> published = new ArrayList<>();
+
+    private LayeredCache cache;
+
+    @BeforeEach
+    public void setUp() {
+
+        StringRedisTemplate template = new StringRedisTemplate() {
+            @Override
+            public Long convertAndSend(String channel, Object message) {
+                published.add(message.toString());
+                return 1L;
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LayeredCacheManager manager = new LayeredCacheManager(new ConcurrentMapCacheManager(), template,
+                meterRegistry, 100, Duration.ofMinutes(1));
+
+        cache = new LayeredCache("users", Caffeine.newBuilder().build(), new ConcurrentMapCache("users"),
+                manager, meterRegistry);
+
+    }
+
+    @Test
+    public void testFillIsNotBroadcast() {
+
+        assertEquals("jane", cache.get("user:1", () -> "jane"));
+        assertEquals("jane", cache.get("user:1", String.class));
+        assertTrue(published.isEmpty());
+
+    }
+
+    @Test
+    public void testPutAfterFailedLoadIsBroadcast() {
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("user:1", () -> {
+            throw new IllegalStateException("User not found");
+        }));
+
+        cache.put("user:1", "jane");
+
+        assertEquals(1, published.size());
+        assertTrue(published.getFirst().endsWith("\nusers\nuser:1"));
+
+    }
+
+    @Test
+    public void testEvictIsBroadcast() {
+
+        cache.get("user:1", () -> "jane");
+        cache.evict("user:1");
+
+        assertEquals(1, published.size());
+        assertNull(cache.get("user:1"));
+
+    }
+
+}
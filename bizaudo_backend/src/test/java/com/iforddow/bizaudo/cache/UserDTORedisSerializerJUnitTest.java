@@ -0,0 +1,48 @@
+package com.iforddow.bizaudo.cache;
+
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.dto.user.UserProfileDTO;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class UserDTORedisSerializerJUnitTest {
+
+    @Test
+    public void testRoundTripWithProfile() {
+
+        UserDTORedisSerializer serializer = new UserDTORedisSerializer();
+
+        UserDTO user = new UserDTO(UUID.randomUUID(), "jane.doe@example.com", true, false,
+                Instant.parse("2026-10-18T10:15:30.123456789Z"), Set.of("Owner", "HrAssistantManager"),
+                new UserProfileDTO(null, "Jane", "Doe", Instant.parse("2025-07-17T08:00:00Z"), null));
+
+        assertEquals(user, serializer.deserialize(serializer.serialize(user)));
+    }
+
+    @Test
+    public void testRoundTripWithoutOptionalParts() {
+
+        UserDTORedisSerializer serializer = new UserDTORedisSerializer();
+
+        UserDTO user = new UserDTO(UUID.randomUUID(), "john@example.com", false, true, null, Set.of(), null);
+
+        assertEquals(user, serializer.deserialize(serializer.serialize(user)));
+    }
+
+    @Test
+    public void testJsonPayloadReadsAsMiss() {
+
+        UserDTORedisSerializer serializer = new UserDTORedisSerializer();
+
+        byte[] json = "{\"id\":\"0b0e4f5c-1a2b-4c3d-9e8f-001122334455\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertNull(serializer.deserialize(json));
+    }
+}
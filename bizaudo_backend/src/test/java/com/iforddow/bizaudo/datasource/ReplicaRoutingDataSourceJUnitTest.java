@@ -0,0 +1,84 @@
+package com.iforddow.bizaudo.datasource;
+
+import com.iforddow.bizaudo.event.user.UserChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplicaRoutingDataSourceJUnitTest {
+
+    private ReadYourWrites readYourWrites;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    public void setUp() {
+
+        readYourWrites = new ReadYourWrites(60_000);
+
+        // The pools are never started, as only the routing decision is tested
+        routing = new ReplicaRoutingDataSource(new HikariDataSource(),
+                List.of(new HikariDataSource(), new HikariDataSource()),
+                readYourWrites, 5_000, new SimpleMeterRegistry());
+
+        ReflectionTestUtils.setField(routing, "healthy", new int[]{0, 1});
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testWritesGoToPrimary() {
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testReadsTakeHealthyReplicasInTurn() {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(0, routing.determineCurrentLookupKey());
+        assertEquals(1, routing.determineCurrentLookupKey());
+        assertEquals(0, routing.determineCurrentLookupKey());
+
+        ReflectionTestUtils.setField(routing, "healthy", new int[]{1});
+
+        assertEquals(1, routing.determineCurrentLookupKey());
+
+        ReflectionTestUtils.setField(routing, "healthy", new int[0]);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+
+    }
+
+    @Test
+    public void testReadsForRecentlyChangedUserGoToPrimary() {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        UUID changed = UUID.randomUUID();
+        UUID unchanged = UUID.randomUUID();
+
+        readYourWrites.onUserChanged(new UserChangedEvent(changed));
+
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.actingFor(changed)) {
+            assertEquals("primary", routing.determineCurrentLookupKey());
+        }
+
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.actingFor(unchanged)) {
+            assertNotEquals("primary", routing.determineCurrentLookupKey());
+        }
+
+        assertNotEquals("primary", routing.determineCurrentLookupKey());
+
+    }
+
+}
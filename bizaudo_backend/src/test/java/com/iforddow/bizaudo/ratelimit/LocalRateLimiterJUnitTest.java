@@ -0,0 +1,65 @@
+package com.iforddow.bizaudo.ratelimit;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalRateLimiterJUnitTest {
+
+    private AtomicLong now;
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setUp() {
+        now = new AtomicLong(1_000_000);
+        rateLimiter = new LocalRateLimiter(4, now::get);
+    }
+
+    @Test
+    public void testBurstThenRefill() {
+
+        // 3 at once, then one every 10 seconds
+        BucketLimit limit = new BucketLimit(3, 6);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("login:account:a", limit));
+        }
+
+        assertEquals(10_000, rateLimiter.tryAcquire("login:account:a", limit));
+
+        // Other keys have their own bucket
+        assertEquals(0, rateLimiter.tryAcquire("login:account:b", limit));
+
+        now.addAndGet(10_000);
+
+        assertEquals(0, rateLimiter.tryAcquire("login:account:a", limit));
+        assertTrue(rateLimiter.tryAcquire("login:account:a", limit) > 0);
+
+    }
+
+    @Test
+    public void testPurgeDropsRefilledBuckets() {
+
+        BucketLimit limit = new BucketLimit(2, 60);
+
+        rateLimiter.tryAcquire("register:client:a", limit);
+        rateLimiter.tryAcquire("register:client:b", limit);
+        rateLimiter.tryAcquire("register:client:b", limit);
+
+        // a is full again after 1 second, b after 2
+        now.addAndGet(1_000);
+        rateLimiter.purgeIdle();
+
+        assertEquals(1, rateLimiter.size());
+
+        now.addAndGet(1_000);
+        rateLimiter.purgeIdle();
+
+        assertEquals(0, rateLimiter.size());
+
+    }
+
+}
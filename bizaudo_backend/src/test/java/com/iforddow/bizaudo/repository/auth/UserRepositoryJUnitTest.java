@@ -0,0 +1,133 @@
+package com.iforddow.bizaudo.repository.auth;
+
+import com.iforddow.bizaudo.dto.user.UserDTO;
+import com.iforddow.bizaudo.jpa.entity.rbac.Permission;
+import com.iforddow.bizaudo.jpa.entity.rbac.Role;
+import com.iforddow.bizaudo.jpa.entity.user.User;
+import com.iforddow.bizaudo.jpa.entity.user.UserProfile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+* Counts the statements each fetch plan runs. Uses the
+* configured database, as the schema relies on Postgres,
+* so it only runs with the integration profile.
+* */
+@Tag("integration")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserRepositoryJUnitTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+    private String email;
+
+    @BeforeEach
+    public void setUp() {
+
+        Permission read = permission("fetch.plan.read");
+        Permission write = permission("fetch.plan.write");
+
+        Role admin = role("FETCH_PLAN_ADMIN", Set.of(read, write));
+        Role viewer = role("FETCH_PLAN_VIEWER", Set.of(read));
+
+        email = "fetch.plan." + UUID.randomUUID() + "@bizaudo.test";
+
+        User user = User.builder()
+                .createdAt(Instant.now())
+                .lastActive(Instant.now())
+                .roles(Set.of(admin, viewer))
+                .build();
+        user.setEmail(email);
+        entityManager.persist(user);
+
+        entityManager.persist(UserProfile.builder()
+                .user(user)
+                .createdAt(Instant.now())
+                .firstName("Fetch")
+                .lastName("Plan")
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testPrincipalLoadsInOneStatement() {
+
+        User user = userRepository.findPrincipalByEmail(email).orElseThrow();
+
+        assertEquals(4, user.getAuthorities().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    public void testDTOLoadsInOneStatement() {
+
+        UserDTO userDTO = new UserDTO(userRepository.findDetailedById(userId).orElseThrow(), true);
+
+        assertEquals(Set.of("FETCH_PLAN_ADMIN", "FETCH_PLAN_VIEWER"), userDTO.roles());
+        assertEquals("Fetch", userDTO.userProfile().firstName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+    }
+
+    @Test
+    public void testPlainLookupLeavesRolesUnloaded() {
+
+        User user = userRepository.findByEmail(email).orElseThrow();
+
+        assertFalse(Hibernate.isInitialized(user.getRoles()));
+
+    }
+
+    private Permission permission(String codeName) {
+
+        Permission permission = new Permission();
+        permission.setName(codeName);
+        permission.setCodeName(codeName);
+
+        return entityManager.persist(permission);
+
+    }
+
+    private Role role(String codeName, Set<Permission> permissions) {
+
+        Role role = new Role();
+        role.setName(codeName);
+        role.setCodeName(codeName);
+        role.setPermissions(permissions);
+
+        return entityManager.persist(role);
+
+    }
+
+}
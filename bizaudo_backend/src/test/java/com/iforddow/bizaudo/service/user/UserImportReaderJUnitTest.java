@@ -0,0 +1,122 @@
+package com.iforddow.bizaudo.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserImportReaderJUnitTest {
+
+    @Test
+    public void testParseCsvQuoting() {
+
+        assertEquals(List.of("a", "b,c", "say \"hi\"", ""), UserImportReader.parseCsv("a,\"b,c\",\"say \"\"hi\"\"\","));
+        assertNull(UserImportReader.parseCsv("a,\"b"));
+
+    }
+
+    @Test
+    public void testCsvRowsFollowHeader() throws IOException {
+
+        String csv = """
+                last_name,email,password,first_name
+                Doe,jane@example.com,Str0ng!Pass,Jane
+
+                "Smith
+                Jones",john@example.com,Str0ng!Pass,John
+                """;
+
+        UserImportReader reader = new UserImportReader(new BufferedReader(new StringReader(csv)), new ObjectMapper(), true);
+
+        UserImportReader.Row first = reader.next();
+        assertEquals(2, first.line());
+        assertEquals("jane@example.com", first.user().getEmail());
+        assertEquals("Jane", first.user().getFirstName());
+
+        UserImportReader.Row second = reader.next();
+        assertEquals(4, second.line());
+        assertEquals("Smith\nJones", second.user().getLastName());
+
+        assertNull(reader.next());
+
+    }
+
+    @Test
+    public void testUnterminatedQuoteResumesAtNextLine() throws IOException {
+
+        String csv = """
+                email,password
+                "jane@example.com,Str0ng!Pass
+                john@example.com,Str0ng!Pass
+                amy@example.com,Str0ng!Pass
+                """;
+
+        UserImportReader reader = new UserImportReader(new BufferedReader(new StringReader(csv)), new ObjectMapper(), true);
+
+        UserImportReader.Row invalid = reader.next();
+        assertEquals(2, invalid.line());
+        assertNull(invalid.user());
+        assertNotNull(invalid.error());
+
+        UserImportReader.Row john = reader.next();
+        assertEquals(3, john.line());
+        assertEquals("john@example.com", john.user().getEmail());
+
+        UserImportReader.Row amy = reader.next();
+        assertEquals(4, amy.line());
+        assertEquals("amy@example.com", amy.user().getEmail());
+
+        assertNull(reader.next());
+
+    }
+
+    @Test
+    public void testQuoteClosedPastLineLimitIsInvalid() throws IOException {
+
+        StringBuilder csv = new StringBuilder("email,password\n\"open@example.com,Str0ng!Pass\n");
+
+        for (int i = 0; i < UserImportReader.MAX_RECORD_LINES; i++) {
+            csv.append("user").append(i).append("@example.com,Str0ng!Pass\n");
+        }
+
+        csv.append("closed\",Str0ng!Pass\n");
+
+        UserImportReader reader = new UserImportReader(new BufferedReader(new StringReader(csv.toString())),
+                new ObjectMapper(), true);
+
+        UserImportReader.Row invalid = reader.next();
+        assertEquals(2, invalid.line());
+        assertNotNull(invalid.error());
+
+        UserImportReader.Row first = reader.next();
+        assertEquals(3, first.line());
+        assertEquals("user0@example.com", first.user().getEmail());
+
+    }
+
+    @Test
+    public void testNdjsonInvalidLine() throws IOException {
+
+        String ndjson = """
+                {"email":"jane@example.com","password":"Str0ng!Pass"}
+                not json
+                """;
+
+        UserImportReader reader = new UserImportReader(new BufferedReader(new StringReader(ndjson)), new ObjectMapper(), false);
+
+        assertEquals("jane@example.com", reader.next().user().getEmail());
+
+        UserImportReader.Row invalid = reader.next();
+        assertNull(invalid.user());
+        assertNotNull(invalid.error());
+
+        assertNull(reader.next());
+
+    }
+
+}
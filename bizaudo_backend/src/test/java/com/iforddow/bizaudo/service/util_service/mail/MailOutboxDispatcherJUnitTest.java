@@ -0,0 +1,93 @@
+package com.iforddow.bizaudo.service.util_service.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MailOutboxDispatcherJUnitTest {
+
+    private SmtpStandIn smtp;
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        smtp = new SmtpStandIn();
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getPort());
+
+        PooledMailTransport mailTransport = new PooledMailTransport(mailSender, new SimpleMeterRegistry());
+        mailTransport.init();
+
+        dispatcher = new MailOutboxDispatcher(null, mailTransport, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "emailSender", "no-reply@bizaudo.test");
+        ReflectionTestUtils.setField(dispatcher, "retryBaseMs", 1_000L);
+        ReflectionTestUtils.setField(dispatcher, "retryMaxMs", 60_000L);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        smtp.close();
+    }
+
+    @Test
+    public void testGroupIsSentOverOneConnection() {
+
+        Map<UUID, String> failures = dispatcher.deliver(List.of(mail("a@bizaudo.test"), mail("b@bizaudo.test"),
+                mail("c@bizaudo.test")));
+
+        assertTrue(failures.isEmpty());
+        assertEquals(3, smtp.getMessages().size());
+        assertEquals(1, smtp.getConnections());
+
+    }
+
+    @Test
+    public void testOnlyRejectedMailsFail() {
+
+        smtp.rejectRecipientsContaining("bounce");
+
+        MailOutboxDispatcher.OutboxMail rejected = mail("bounce@bizaudo.test");
+
+        Map<UUID, String> failures = dispatcher.deliver(List.of(mail("a@bizaudo.test"), rejected));
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.containsKey(rejected.id()));
+        assertEquals(1, smtp.getMessages().size());
+
+    }
+
+    @Test
+    public void testServerDownFailsEveryMail() throws IOException {
+
+        smtp.close();
+
+        assertEquals(2, dispatcher.deliver(List.of(mail("a@bizaudo.test"), mail("b@bizaudo.test"))).size());
+
+    }
+
+    @Test
+    public void testBackoffDoublesUpToMaximum() {
+
+        assertTrue(dispatcher.backoffMs(1) >= 800 && dispatcher.backoffMs(1) <= 1_200);
+        assertTrue(dispatcher.backoffMs(3) >= 3_200 && dispatcher.backoffMs(3) <= 4_800);
+        assertTrue(dispatcher.backoffMs(40) <= 72_000);
+
+    }
+
+    private static MailOutboxDispatcher.OutboxMail mail(String to) {
+        return new MailOutboxDispatcher.OutboxMail(UUID.randomUUID(), to, "Subject", "Body", 0, Instant.now());
+    }
+
+}
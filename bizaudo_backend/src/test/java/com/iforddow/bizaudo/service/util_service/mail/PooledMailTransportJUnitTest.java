@@ -0,0 +1,118 @@
+package com.iforddow.bizaudo.service.util_service.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledMailTransportJUnitTest {
+
+    private SmtpStandIn smtp;
+    private SimpleMeterRegistry meterRegistry;
+    private PooledMailTransport transport;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        smtp = new SmtpStandIn();
+        meterRegistry = new SimpleMeterRegistry();
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getPort());
+        mailSender.setUsername("bizaudo");
+        mailSender.setPassword("secret");
+        mailSender.getJavaMailProperties().put("mail.smtp.auth", "true");
+
+        transport = new PooledMailTransport(mailSender, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        transport.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    public void testSessionIsReusedAcrossSends() {
+
+        transport.init();
+
+        transport.send(message("a@bizaudo.test"), message("b@bizaudo.test"), message("c@bizaudo.test"));
+        transport.send(message("d@bizaudo.test"), message("e@bizaudo.test"));
+
+        assertEquals(5, smtp.getMessages().size());
+        assertEquals(1, smtp.getConnections());
+        assertEquals(1, smtp.getLogins());
+        assertEquals(1, meterRegistry.counter("mail.transport.connections.opened").count());
+
+    }
+
+    @Test
+    public void testSessionIsRecycledAfterMaxMessages() {
+
+        ReflectionTestUtils.setField(transport, "maxMessagesPerConnection", 2);
+        transport.init();
+
+        transport.send(message("a@bizaudo.test"), message("b@bizaudo.test"), message("c@bizaudo.test"),
+                message("d@bizaudo.test"), message("e@bizaudo.test"));
+
+        assertEquals(5, smtp.getMessages().size());
+        assertEquals(3, smtp.getConnections());
+        assertEquals(2, meterRegistry.counter("mail.transport.connections.closed", "reason", "recycled").count());
+
+    }
+
+    @Test
+    public void testIdleSessionIsReplaced() throws InterruptedException {
+
+        ReflectionTestUtils.setField(transport, "maxIdleMs", 10L);
+        transport.init();
+
+        transport.send(message("a@bizaudo.test"));
+        Thread.sleep(50);
+        transport.evictIdle();
+        transport.send(message("b@bizaudo.test"));
+
+        assertEquals(2, smtp.getConnections());
+        assertEquals(1, meterRegistry.counter("mail.transport.connections.closed", "reason", "idle").count());
+
+    }
+
+    @Test
+    public void testRefusedMessageDoesNotStopTheRest() {
+
+        transport.init();
+        smtp.rejectRecipientsContaining("bounce");
+
+        SimpleMailMessage rejected = message("bounce@bizaudo.test");
+
+        MailSendException e = assertThrows(MailSendException.class, () ->
+                transport.send(message("a@bizaudo.test"), rejected, message("b@bizaudo.test")));
+
+        assertEquals(1, e.getFailedMessages().size());
+        assertTrue(e.getFailedMessages().containsKey(rejected));
+        assertEquals(2, smtp.getMessages().size());
+        assertEquals(1, smtp.getConnections());
+
+    }
+
+    private static SimpleMailMessage message(String to) {
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("no-reply@bizaudo.test");
+        message.setTo(to);
+        message.setSubject("Subject");
+        message.setText("Body");
+
+        return message;
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.iforddow.bizaudo.service.util_service.mail;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local SMTP server for tests. It accepts every message, keeps
+ * them in memory, and counts the connections and logins made, so
+ * tests can check how mail is sent without a real mail server.
+ *
+ * @author IFD
+ * @since 2026-10-18
+ * */
+public class SmtpStandIn implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger logins = new AtomicInteger();
+
+    // Recipients containing this are rejected at RCPT TO
+    private volatile String rejectRecipient;
+
+    public SmtpStandIn() throws IOException {
+        serverSocket = new ServerSocket(0);
+        acceptor = Thread.ofVirtual().start(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public int getLogins() {
+        return logins.get();
+    }
+
+    public void rejectRecipientsContaining(String rejectRecipient) {
+        this.rejectRecipient = rejectRecipient;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        acceptor.interrupt();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread.ofVirtual().start(() -> converse(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void converse(Socket socket) {
+
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+
+            reply(out, "220 localhost SMTP stand-in");
+
+            String line;
+
+            while ((line = in.readLine()) != null) {
+
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-localhost\r\n250-AUTH PLAIN\r\n250 8BITMIME");
+                    case "HELO", "MAIL", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "AUTH" -> {
+                        logins.incrementAndGet();
+                        reply(out, "235 Authenticated");
+                    }
+                    case "RCPT" -> {
+                        String reject = rejectRecipient;
+                        reply(out, reject != null && line.contains(reject) ? "550 No such user" : "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        StringBuilder message = new StringBuilder();
+                        String data;
+                        while ((data = in.readLine()) != null && !data.equals(".")) {
+                            message.append(data.startsWith("..") ? data.substring(1) : data).append('\n');
+                        }
+                        messages.add(message.toString());
+                        reply(out, "250 Queued");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+
+        } catch (IOException ignored) {
+            // The client went away
+        }
+
+    }
+
+    private static void reply(Writer out, String reply) throws IOException {
+        out.write(reply + "\r\n");
+        out.flush();
+    }
+
+}
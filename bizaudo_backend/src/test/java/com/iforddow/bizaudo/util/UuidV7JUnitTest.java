@@ -0,0 +1,57 @@
+package com.iforddow.bizaudo.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidV7JUnitTest {
+
+    @Test
+    public void testVersionVariantAndTimestamp() {
+
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestamp(uuid) >= before);
+        assertTrue(UuidV7.timestamp(uuid) <= System.currentTimeMillis() + 1);
+
+    }
+
+    @Test
+    public void testIdsAreUniqueAndOrdered() {
+
+        Set<UUID> seen = new HashSet<>();
+        UUID previous = UuidV7.generate();
+
+        // Far more than the 4096 a millisecond's counter holds
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+
+            assertTrue(next.compareTo(previous) > 0);
+            assertTrue(seen.add(next));
+
+            previous = next;
+        }
+
+    }
+
+    @Test
+    public void testOrderKeptWhenClockGoesBack() {
+
+        long now = System.currentTimeMillis();
+
+        UUID first = UuidV7.of(UuidV7.next(now), 0);
+        UUID second = UuidV7.of(UuidV7.next(now - 1_000), -1);
+
+        assertTrue(second.compareTo(first) > 0);
+        assertTrue(UuidV7.timestamp(second) >= now);
+
+    }
+
+}